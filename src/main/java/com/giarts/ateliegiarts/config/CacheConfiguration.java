@@ -0,0 +1,60 @@
+package com.giarts.ateliegiarts.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class CacheConfiguration {
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final List<String> CACHE_REGIONS = List.of(
+            "products",
+            "product-images",
+            "product-images-by-product",
+            "events",
+            "event-images",
+            "event-images-by-event",
+            "user-roles",
+            "default-query-results-region"
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        Binder binder = Binder.get(environment);
+        long defaultMaximumSize = binder.bind("api.cache.default.maximum-size", Long.class).get();
+        Duration defaultTtl = binder.bind("api.cache.default.ttl", Duration.class).get();
+
+        CacheManager cacheManager = new CaffeineCachingProvider()
+                .getCacheManager(URI.create("hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : CACHE_REGIONS) {
+            long maximumSize = binder.bind("api.cache.regions." + region + ".maximum-size", Long.class).orElse(defaultMaximumSize);
+            Duration ttl = binder.bind("api.cache.regions." + region + ".ttl", Duration.class).orElse(defaultTtl);
+
+            cacheManager.createCache(region, new CaffeineConfiguration<>()
+                    .setStoreByValue(false)
+                    .setMaximumSize(OptionalLong.of(maximumSize))
+                    .setExpireAfterWrite(OptionalLong.of(ttl.toNanos())));
+        }
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>().setStoreByValue(false));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
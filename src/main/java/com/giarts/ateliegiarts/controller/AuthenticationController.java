@@ -1,7 +1,10 @@
 package com.giarts.ateliegiarts.controller;
 
+import com.giarts.ateliegiarts.dto.authentication.JsonWebKeySetDTO;
 import com.giarts.ateliegiarts.dto.authentication.JwtTokenResponseDTO;
 import com.giarts.ateliegiarts.dto.authentication.LoginRequestDTO;
+import com.giarts.ateliegiarts.dto.authentication.LogoutRequestDTO;
+import com.giarts.ateliegiarts.dto.authentication.RefreshTokenRequestDTO;
 import com.giarts.ateliegiarts.dto.user.CreateUserDTO;
 import com.giarts.ateliegiarts.dto.user.ResponseUserDTO;
 import com.giarts.ateliegiarts.service.AuthenticationService;
@@ -9,15 +12,21 @@ import com.giarts.ateliegiarts.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/auth")
@@ -29,9 +38,38 @@ public class AuthenticationController {
 
     @Operation(summary = "Get JWT token")
     @ApiResponse(responseCode = "200", description = "JWT token retrieved successfully")
+    @ApiResponse(responseCode = "429", description = "Too many login attempts")
     @PostMapping("/login")
-    public ResponseEntity<JwtTokenResponseDTO> login(@RequestBody @Valid LoginRequestDTO loginDTO) {
-        return ResponseEntity.ok(authenticationService.authenticateUser(loginDTO));
+    public ResponseEntity<JwtTokenResponseDTO> login(@RequestBody @Valid LoginRequestDTO loginDTO,
+                                                     HttpServletRequest request) {
+        return ResponseEntity.ok(authenticationService.authenticateUser(loginDTO, request.getRemoteAddr()));
+    }
+
+    @Operation(summary = "Renew JWT token with a refresh token")
+    @ApiResponse(responseCode = "200", description = "JWT token renewed successfully")
+    @ApiResponse(responseCode = "401", description = "Invalid, expired or reused refresh token")
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtTokenResponseDTO> refresh(@RequestBody @Valid RefreshTokenRequestDTO refreshTokenDTO) {
+        return ResponseEntity.ok(authenticationService.refreshAccessToken(refreshTokenDTO));
+    }
+
+    @Operation(summary = "Revoke the current JWT token and optionally its refresh token family")
+    @ApiResponse(responseCode = "204", description = "Logged out successfully")
+    @ApiResponse(responseCode = "401", description = "Missing or invalid JWT token")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+                                       @RequestBody(required = false) LogoutRequestDTO logoutDTO) {
+        authenticationService.logout(authorizationHeader, logoutDTO);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get the public keys used to sign JWT tokens")
+    @ApiResponse(responseCode = "200", description = "JSON Web Key Set retrieved successfully")
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JsonWebKeySetDTO> getJsonWebKeySet() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(15)).cachePublic())
+                .body(authenticationService.getJsonWebKeySet());
     }
 
     @Operation(summary = "Create an user")
@@ -1,18 +1,24 @@
 package com.giarts.ateliegiarts.controller;
 
+import com.giarts.ateliegiarts.dto.CursorPageDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.dto.event.CreateEventDTO;
 import com.giarts.ateliegiarts.dto.event.ResponseEventDTO;
 import com.giarts.ateliegiarts.dto.event.UpdateEventDTO;
+import com.giarts.ateliegiarts.enums.EPageCountMode;
 import com.giarts.ateliegiarts.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
@@ -23,20 +29,54 @@ import java.net.URI;
 public class EventController {
     private final EventService eventService;
 
-    @Operation(summary = "List all events with pagination")
+    @Operation(summary = "List all events with pagination. Use count=NONE to skip the total or count=CACHED for a cached total")
     @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Events not modified")
     @GetMapping
-    public ResponseEntity<Page<ResponseEventDTO>> getAllEvents(Pageable pageable) {
-        return ResponseEntity.ok(eventService.getAllEvents(pageable));
+    public ResponseEntity<Slice<ResponseEventDTO>> getAllEvents(Pageable pageable,
+                                                                @RequestParam(value = "count", defaultValue = "EXACT") EPageCountMode countMode,
+                                                                WebRequest webRequest) {
+        if (webRequest.checkNotModified(eventService.getEventsVersion().eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(eventService.getAllEvents(pageable, countMode));
+    }
+
+    @Operation(summary = "List events with cursor pagination. Send an empty cursor to get the first page")
+    @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Events not modified")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDTO<ResponseEventDTO>> getAllEventsByCursor(@RequestParam("cursor") String cursor,
+                                                                                @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                                WebRequest webRequest) {
+        if (webRequest.checkNotModified(eventService.getEventsVersion().eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(eventService.getAllEventsByCursor(cursor, size));
     }
 
     @Operation(summary = "Get an event by ID")
     @ApiResponse(responseCode = "200", description = "Event retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Event not modified")
     @ApiResponse(responseCode = "404", description = "Event not found")
     @GetMapping("/{eventId}")
-    public ResponseEntity<ResponseEventDTO> getEventById(@PathVariable("eventId") Long eventId) {
+    public ResponseEntity<ResponseEventDTO> getEventById(@PathVariable("eventId") Long eventId, WebRequest webRequest) {
+        if (isConditionalRequest(webRequest)) {
+            ResourceVersionDTO version = eventService.getEventVersion(eventId);
+            if (webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+                return null;
+            }
+
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(eventService.getEventById(eventId));
+        }
+
         ResponseEventDTO response = eventService.getEventById(eventId);
-        return ResponseEntity.ok(response);
+        ResourceVersionDTO version = eventService.getEventVersion(response);
+        webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @Operation(summary = "Create an event")
@@ -69,4 +109,8 @@ public class EventController {
         eventService.deleteEventById(eventId);
         return ResponseEntity.noContent().build();
     }
+
+    private boolean isConditionalRequest(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
@@ -1,13 +1,16 @@
 package com.giarts.ateliegiarts.controller;
 
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.model.EventImage;
 import com.giarts.ateliegiarts.service.EventImageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -21,10 +24,16 @@ public class EventImageController {
 
     @Operation(summary = "List all images of an event")
     @ApiResponse(responseCode = "200", description = "Images retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Images not modified")
     @ApiResponse(responseCode = "404", description = "Event not found")
     @GetMapping
-    public ResponseEntity<List<EventImage>> getAllEventImages(@PathVariable("eventId") Long eventId) {
-        return ResponseEntity.ok(eventImageService.getAllEventImages(eventId));
+    public ResponseEntity<List<EventImage>> getAllEventImages(@PathVariable("eventId") Long eventId, WebRequest webRequest) {
+        ResourceVersionDTO version = eventImageService.getEventImagesVersion(eventId);
+        if (webRequest.checkNotModified(version.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(eventImageService.getAllEventImages(eventId));
     }
 
     @Operation(summary = "Upload an image to an event")
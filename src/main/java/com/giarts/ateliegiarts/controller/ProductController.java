@@ -1,18 +1,33 @@
 package com.giarts.ateliegiarts.controller;
 
+import com.giarts.ateliegiarts.dto.CursorPageDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.dto.product.CreateProductDTO;
+import com.giarts.ateliegiarts.dto.product.ProductFacetDTO;
+import com.giarts.ateliegiarts.dto.product.ProductFilterDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSearchResultDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSuggestionDTO;
 import com.giarts.ateliegiarts.dto.product.ResponseProductDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDetailDTO;
 import com.giarts.ateliegiarts.dto.product.UpdateProductDTO;
+import com.giarts.ateliegiarts.enums.EPageCountMode;
+import com.giarts.ateliegiarts.service.ProductFacetService;
+import com.giarts.ateliegiarts.service.ProductSearchService;
 import com.giarts.ateliegiarts.service.ProductService;
+import com.giarts.ateliegiarts.service.ProductSuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -23,20 +38,91 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
+    private final ProductSuggestionService productSuggestionService;
+    private final ProductFacetService productFacetService;
 
-    @Operation(summary = "List all products with pagination")
+    @Operation(summary = "List all products with pagination. Use count=NONE to skip the total or count=CACHED for a cached total")
     @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Products not modified")
+    @ApiResponse(responseCode = "400", description = "Unsupported sort or filter combination")
     @GetMapping
-    public ResponseEntity<Page<ResponseProductDTO>> getAllProducts(Pageable pageable) {
-        return ResponseEntity.ok(productService.getAllProducts(pageable));
+    public ResponseEntity<Slice<ResponseProductDTO>> getAllProducts(@ParameterObject ProductFilterDTO filter,
+                                                                    Pageable pageable,
+                                                                    @RequestParam(value = "count", defaultValue = "EXACT") EPageCountMode countMode,
+                                                                    WebRequest webRequest) {
+        if (webRequest.checkNotModified(productService.getProductsVersion().eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(productService.getAllProducts(filter, pageable, countMode));
+    }
+
+    @Operation(summary = "List products with cursor pagination. Send an empty cursor to get the first page")
+    @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Products not modified")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDTO<ResponseProductDTO>> getAllProductsByCursor(@RequestParam("cursor") String cursor,
+                                                                                    @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                                    WebRequest webRequest) {
+        if (webRequest.checkNotModified(productService.getProductsVersion().eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(productService.getAllProductsByCursor(cursor, size));
+    }
+
+    @Operation(summary = "Search products by name and description")
+    @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductSearchResultDTO>> searchProducts(@RequestParam("q") String query,
+                                                                       @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productSearchService.searchProducts(query, limit));
+    }
+
+    @Operation(summary = "Suggest product names for a typed prefix, tolerating one typo")
+    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestionDTO>> suggestProducts(@RequestParam("prefix") String prefix,
+                                                                      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productSuggestionService.suggestProducts(prefix, limit));
+    }
+
+    @Operation(summary = "Count products per product type")
+    @ApiResponse(responseCode = "200", description = "Facets retrieved successfully")
+    @GetMapping("/facets")
+    public ResponseEntity<List<ProductFacetDTO>> getProductTypeFacets() {
+        return ResponseEntity.ok(productFacetService.getProductTypeFacets());
     }
 
     @Operation(summary = "Get a product by ID")
     @ApiResponse(responseCode = "200", description = "Product retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Product not modified")
     @ApiResponse(responseCode = "404", description = "Product not found")
     @GetMapping("/{productId}")
-    public ResponseEntity<ResponseProductDTO> getProductById(@PathVariable("productId") Long productId) {
+    public ResponseEntity<ResponseProductDTO> getProductById(@PathVariable("productId") Long productId, WebRequest webRequest) {
+        if (isConditionalRequest(webRequest)) {
+            ResourceVersionDTO version = productService.getProductVersion(productId);
+            if (webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+                return null;
+            }
+
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(productService.getProductById(productId));
+        }
+
         ResponseProductDTO response = productService.getProductById(productId);
+        ResourceVersionDTO version = productService.getProductVersion(response);
+        webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @Operation(summary = "Get a product by ID with its images")
+    @ApiResponse(responseCode = "200", description = "Product retrieved successfully")
+    @ApiResponse(responseCode = "404", description = "Product not found")
+    @GetMapping("/{productId}/detail")
+    public ResponseEntity<ResponseProductDetailDTO> getProductDetailById(@PathVariable("productId") Long productId) {
+        ResponseProductDetailDTO response = productService.getProductDetailById(productId);
         return ResponseEntity.ok(response);
     }
 
@@ -70,4 +156,8 @@ public class ProductController {
         productService.deleteProductById(productId);
         return ResponseEntity.noContent().build();
     }
+
+    private boolean isConditionalRequest(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
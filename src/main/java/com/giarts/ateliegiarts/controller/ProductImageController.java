@@ -1,13 +1,16 @@
 package com.giarts.ateliegiarts.controller;
 
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.model.ProductImage;
 import com.giarts.ateliegiarts.service.ProductImageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -21,10 +24,16 @@ public class ProductImageController {
 
     @Operation(summary = "List all images of a product")
     @ApiResponse(responseCode = "200", description = "Images retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Images not modified")
     @ApiResponse(responseCode = "404", description = "Product not found")
     @GetMapping
-    public ResponseEntity<List<ProductImage>> getAllProductImages(@PathVariable("productId") Long productId) {
-        return ResponseEntity.ok(productImageService.getAllProductImages(productId));
+    public ResponseEntity<List<ProductImage>> getAllProductImages(@PathVariable("productId") Long productId, WebRequest webRequest) {
+        ResourceVersionDTO version = productImageService.getProductImagesVersion(productId);
+        if (webRequest.checkNotModified(version.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(productImageService.getAllProductImages(productId));
     }
 
     @Operation(summary = "Upload an image to a product")
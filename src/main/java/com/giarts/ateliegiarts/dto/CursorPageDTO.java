@@ -0,0 +1,10 @@
+package com.giarts.ateliegiarts.dto;
+
+import java.util.List;
+
+public record CursorPageDTO<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {
+}
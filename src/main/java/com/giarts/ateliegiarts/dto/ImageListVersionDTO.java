@@ -0,0 +1,10 @@
+package com.giarts.ateliegiarts.dto;
+
+import java.time.LocalDateTime;
+
+public record ImageListVersionDTO(
+        LocalDateTime ownerUpdatedAt,
+        Long imageCount,
+        Long lastImageId
+) {
+}
@@ -0,0 +1,18 @@
+package com.giarts.ateliegiarts.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record ResourceVersionDTO(
+        String eTag,
+        Instant lastModified
+) {
+    public static ResourceVersionDTO of(String eTag, LocalDateTime lastModified) {
+        return new ResourceVersionDTO(eTag, lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant() : null);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,17 @@
+package com.giarts.ateliegiarts.dto.authentication;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JsonWebKeyDTO(
+        String kty,
+        String kid,
+        String use,
+        String alg,
+        String crv,
+        String x,
+        String y,
+        String n,
+        String e
+) {
+}
@@ -0,0 +1,8 @@
+package com.giarts.ateliegiarts.dto.authentication;
+
+import java.util.List;
+
+public record JsonWebKeySetDTO(
+        List<JsonWebKeyDTO> keys
+) {
+}
@@ -1,6 +1,7 @@
 package com.giarts.ateliegiarts.dto.authentication;
 
 public record JwtTokenResponseDTO(
-        String jwtToken
+        String jwtToken,
+        String refreshToken
 ) {
 }
@@ -0,0 +1,6 @@
+package com.giarts.ateliegiarts.dto.authentication;
+
+public record LogoutRequestDTO(
+        String refreshToken
+) {
+}
@@ -0,0 +1,9 @@
+package com.giarts.ateliegiarts.dto.authentication;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDTO(
+        @NotBlank(message = "Refresh token is required")
+        String refreshToken
+) {
+}
@@ -0,0 +1,10 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.enums.EProductType;
+
+public record ProductFacetDTO(
+        EProductType productType,
+        String label,
+        long count
+) {
+}
@@ -0,0 +1,30 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.enums.EProductType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public record ProductFilterDTO(
+        EProductType productType,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime updatedFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime updatedTo
+) {
+    public boolean isEmpty() {
+        return productType == null && !hasCreatedRange() && !hasUpdatedRange();
+    }
+
+    public boolean hasCreatedRange() {
+        return createdFrom != null || createdTo != null;
+    }
+
+    public boolean hasUpdatedRange() {
+        return updatedFrom != null || updatedTo != null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.giarts.ateliegiarts.dto.product;
+
+public record ProductMainImageDTO(
+        Long productId,
+        String imageUrl
+) {
+}
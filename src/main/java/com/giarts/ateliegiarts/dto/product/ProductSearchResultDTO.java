@@ -0,0 +1,21 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.enums.EProductType;
+
+public record ProductSearchResultDTO(
+        Long id,
+        String name,
+        String description,
+        EProductType productType,
+        double score
+) {
+    public static ProductSearchResultDTO fromSummary(ProductSummaryDTO product, double score) {
+        return new ProductSearchResultDTO(
+                product.id(),
+                product.name(),
+                product.description(),
+                product.productType(),
+                score
+        );
+    }
+}
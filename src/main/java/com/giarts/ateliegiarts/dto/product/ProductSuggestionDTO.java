@@ -0,0 +1,10 @@
+package com.giarts.ateliegiarts.dto.product;
+
+public record ProductSuggestionDTO(
+        Long id,
+        String name
+) {
+    public static ProductSuggestionDTO fromSummary(ProductSummaryDTO product) {
+        return new ProductSuggestionDTO(product.id(), product.name());
+    }
+}
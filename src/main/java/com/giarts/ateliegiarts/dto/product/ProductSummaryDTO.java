@@ -0,0 +1,20 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.model.Product;
+
+public record ProductSummaryDTO(
+        Long id,
+        String name,
+        String description,
+        EProductType productType
+) {
+    public static ProductSummaryDTO fromEntity(Product product) {
+        return new ProductSummaryDTO(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getProductType()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.enums.EProductType;
+
+public record ProductTypeCountDTO(
+        EProductType productType,
+        Long count
+) {
+}
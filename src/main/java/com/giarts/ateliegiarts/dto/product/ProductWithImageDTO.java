@@ -0,0 +1,10 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.model.ProductImage;
+
+public record ProductWithImageDTO(
+        Product product,
+        ProductImage productImage
+) {
+}
@@ -10,17 +10,27 @@ public record ResponseProductDTO(
         String name,
         String description,
         EProductType productType,
+        String mainImageUrl,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
     public static ResponseProductDTO fromEntity(Product product) {
+        return fromEntity(product, null);
+    }
+
+    public static ResponseProductDTO fromEntity(Product product, String mainImageUrl) {
         return new ResponseProductDTO(
                 product.getId(),
                 product.getName(),
                 product.getDescription(),
                 product.getProductType(),
+                mainImageUrl,
                 product.getCreatedAt(),
                 product.getUpdatedAt()
         );
     }
+
+    public ResponseProductDTO withMainImageUrl(String mainImageUrl) {
+        return new ResponseProductDTO(id, name, description, productType, mainImageUrl, createdAt, updatedAt);
+    }
 }
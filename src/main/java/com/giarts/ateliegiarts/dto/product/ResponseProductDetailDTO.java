@@ -0,0 +1,41 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.model.Product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ResponseProductDetailDTO(
+        Long id,
+        String name,
+        String description,
+        EProductType productType,
+        List<ResponseProductImageDTO> images,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static ResponseProductDetailDTO fromEntity(Product product, List<ResponseProductImageDTO> images) {
+        return new ResponseProductDetailDTO(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getProductType(),
+                images,
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+
+    public static ResponseProductDetailDTO fromProduct(ResponseProductDTO product, List<ResponseProductImageDTO> images) {
+        return new ResponseProductDetailDTO(
+                product.id(),
+                product.name(),
+                product.description(),
+                product.productType(),
+                images,
+                product.createdAt(),
+                product.updatedAt()
+        );
+    }
+}
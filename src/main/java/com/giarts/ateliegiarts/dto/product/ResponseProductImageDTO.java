@@ -0,0 +1,29 @@
+package com.giarts.ateliegiarts.dto.product;
+
+import com.giarts.ateliegiarts.model.ProductImage;
+
+import java.time.LocalDateTime;
+
+public record ResponseProductImageDTO(
+        Long id,
+        String imageUrl,
+        Boolean isMainImage,
+        String fileName,
+        Long fileSize,
+        String fileType,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static ResponseProductImageDTO fromEntity(ProductImage productImage) {
+        return new ResponseProductImageDTO(
+                productImage.getId(),
+                productImage.getImageUrl(),
+                productImage.getIsMainImage(),
+                productImage.getFileName(),
+                productImage.getFileSize(),
+                productImage.getFileType(),
+                productImage.getCreatedAt(),
+                productImage.getUpdatedAt()
+        );
+    }
+}
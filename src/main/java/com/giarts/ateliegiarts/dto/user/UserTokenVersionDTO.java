@@ -0,0 +1,7 @@
+package com.giarts.ateliegiarts.dto.user;
+
+public record UserTokenVersionDTO(
+        Long userId,
+        Integer tokenVersion
+) {
+}
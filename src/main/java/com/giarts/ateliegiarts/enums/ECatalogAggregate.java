@@ -0,0 +1,6 @@
+package com.giarts.ateliegiarts.enums;
+
+public enum ECatalogAggregate {
+    PRODUCTS,
+    EVENTS
+}
@@ -0,0 +1,7 @@
+package com.giarts.ateliegiarts.enums;
+
+public enum EPageCountMode {
+    EXACT,
+    CACHED,
+    NONE
+}
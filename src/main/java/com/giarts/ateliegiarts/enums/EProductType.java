@@ -1,6 +1,8 @@
 package com.giarts.ateliegiarts.enums;
 
+import lombok.Getter;
 
+@Getter
 public enum EProductType {
     BOLSA("Bolsa"),
     TAPETE("Tapete"),
@@ -9,5 +11,9 @@ public enum EProductType {
     KIT_BANDEJA("Kit de Bandeja"),
     JOGO_DE_BANHEIRO("Jogo de Banheiro");
 
-    EProductType(String name) { }
+    private final String label;
+
+    EProductType(String label) {
+        this.label = label;
+    }
 }
@@ -0,0 +1,7 @@
+package com.giarts.ateliegiarts.enums;
+
+public enum ESigningAlgorithm {
+    HS256,
+    ES256,
+    RS256
+}
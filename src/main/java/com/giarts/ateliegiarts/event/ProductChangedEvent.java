@@ -0,0 +1,28 @@
+package com.giarts.ateliegiarts.event;
+
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+
+public record ProductChangedEvent(
+        ProductSummaryDTO previous,
+        ProductSummaryDTO current
+) {
+    public static ProductChangedEvent created(ProductSummaryDTO current) {
+        return new ProductChangedEvent(null, current);
+    }
+
+    public static ProductChangedEvent updated(ProductSummaryDTO previous, ProductSummaryDTO current) {
+        return new ProductChangedEvent(previous, current);
+    }
+
+    public static ProductChangedEvent deleted(ProductSummaryDTO previous) {
+        return new ProductChangedEvent(previous, null);
+    }
+
+    public Long productId() {
+        return current != null ? current.id() : previous.id();
+    }
+
+    public boolean isDeletion() {
+        return current == null;
+    }
+}
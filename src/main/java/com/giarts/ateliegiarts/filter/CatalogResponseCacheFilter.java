@@ -0,0 +1,204 @@
+package com.giarts.ateliegiarts.filter;
+
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@ConditionalOnProperty(value = "api.response-cache.enabled", havingValue = "true")
+@Slf4j
+public class CatalogResponseCacheFilter extends OncePerRequestFilter {
+    private static final Map<PathPattern, ECatalogAggregate> CACHED_ROUTES = Map.of(
+            PathPatternParser.defaultInstance.parse("/products"), ECatalogAggregate.PRODUCTS,
+            PathPatternParser.defaultInstance.parse("/products/{productId:\\d+}"), ECatalogAggregate.PRODUCTS,
+            PathPatternParser.defaultInstance.parse("/events"), ECatalogAggregate.EVENTS,
+            PathPatternParser.defaultInstance.parse("/events/{eventId:\\d+}"), ECatalogAggregate.EVENTS
+    );
+
+    private final CatalogVersion catalogVersion;
+    private final Cache<String, CachedResponse> responses;
+
+    public CatalogResponseCacheFilter(CatalogVersion catalogVersion,
+                                      @Value("${api.response-cache.maximum-size}") DataSize maximumSize,
+                                      MeterRegistry meterRegistry) {
+        this.catalogVersion = catalogVersion;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.identityBody().length + response.gzipBody().length)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "catalog-responses");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || resolveAggregate(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String cacheKey = buildCacheKey(request, resolveAggregate(request));
+        CachedResponse cachedResponse = responses.getIfPresent(cacheKey);
+        if (cachedResponse != null) {
+            writeCachedResponse(request, response, cachedResponse);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        if (isCacheable(responseWrapper)) {
+            byte[] body = responseWrapper.getContentAsByteArray();
+            responses.put(cacheKey, new CachedResponse(
+                    body,
+                    gzip(body),
+                    responseWrapper.getContentType(),
+                    responseWrapper.getHeader(HttpHeaders.ETAG),
+                    responseWrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                    lastModifiedOf(responseWrapper)
+            ));
+            responseWrapper.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void writeCachedResponse(HttpServletRequest request, HttpServletResponse response, CachedResponse cachedResponse) throws IOException {
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (cachedResponse.eTag() != null && webRequest.checkNotModified(cachedResponse.eTag(), cachedResponse.lastModified())) {
+            return;
+        }
+
+        if (cachedResponse.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cachedResponse.cacheControl());
+        }
+        response.setContentType(cachedResponse.contentType());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = cachedResponse.identityBody();
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cachedResponse.gzipBody();
+        }
+
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper responseWrapper) {
+        return responseWrapper.getStatus() == HttpServletResponse.SC_OK
+                && responseWrapper.getContentType() != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(responseWrapper.getContentType()))
+                && !responseWrapper.containsHeader(HttpHeaders.SET_COOKIE);
+    }
+
+    private static long lastModifiedOf(HttpServletResponse response) {
+        HttpHeaders headers = new HttpHeaders();
+        String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+        if (lastModified != null) {
+            headers.set(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        return headers.getLastModified();
+    }
+
+    private String buildCacheKey(HttpServletRequest request, ECatalogAggregate aggregate) {
+        String normalizedQuery = request.getParameterMap().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(parameter -> parameter.getKey() + "=" + String.join(",", parameter.getValue()))
+                .collect(Collectors.joining("&"));
+
+        return aggregate.name() + ":" + catalogVersion.current(aggregate) + pathOf(request) + "?" + normalizedQuery;
+    }
+
+    private static ECatalogAggregate resolveAggregate(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(pathOf(request));
+        return CACHED_ROUTES.entrySet().stream()
+                .filter(route -> route.getKey().matches(path))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String acceptEncoding : Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))) {
+            for (String encoding : acceptEncoding.split(",")) {
+                String[] parameters = encoding.split(";");
+                String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+                if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                    gzipQuality = Math.max(gzipQuality, qualityOf(parameters));
+                } else if (coding.equals("*")) {
+                    wildcardQuality = Math.max(wildcardQuality, qualityOf(parameters));
+                }
+            }
+        }
+
+        return gzipQuality >= 0 ? gzipQuality > 0 : wildcardQuality > 0;
+    }
+
+    private static double qualityOf(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (OutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private record CachedResponse(byte[] identityBody, byte[] gzipBody, String contentType,
+                                  String eTag, String cacheControl, long lastModified) {
+    }
+}
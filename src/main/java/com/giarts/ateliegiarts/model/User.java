@@ -39,6 +39,10 @@ public class User {
     )
     private Set<UserRole> userRoles;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -1,5 +1,6 @@
 package com.giarts.ateliegiarts.repository;
 
+import com.giarts.ateliegiarts.dto.ImageListVersionDTO;
 import com.giarts.ateliegiarts.model.EventImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventImageRepository extends JpaRepository<EventImage, Long> {
@@ -16,4 +18,13 @@ public interface EventImageRepository extends JpaRepository<EventImage, Long> {
             WHERE event_id = :eventId
             """, nativeQuery = true)
     List<EventImage> findAllByEventId(@Param(value = "eventId") Long eventId);
+
+    @Query(value = """
+            SELECT new com.giarts.ateliegiarts.dto.ImageListVersionDTO(e.updatedAt, COUNT(ei), MAX(ei.id))
+            FROM Event e
+            LEFT JOIN EventImage ei ON ei.event = e
+            WHERE e.id = :eventId
+            GROUP BY e.id, e.updatedAt
+            """)
+    Optional<ImageListVersionDTO> findImageListVersionByEventId(@Param(value = "eventId") Long eventId);
 }
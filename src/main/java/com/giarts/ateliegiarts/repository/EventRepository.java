@@ -1,14 +1,24 @@
 package com.giarts.ateliegiarts.repository;
 
 import com.giarts.ateliegiarts.model.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "events"))
     @Query(value = """
             SELECT *
             FROM events
@@ -17,4 +27,37 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             FROM events
             """, nativeQuery = true)
     Page<Event> findAllEventsPaginated(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "events"))
+    @Query(value = """
+            SELECT *
+            FROM events
+            """, nativeQuery = true)
+    Slice<Event> findAllEventsSliced(Pageable pageable);
+
+    @Query(value = """
+            SELECT *
+            FROM events
+            ORDER BY date_time, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Event> findFirstEvents(@Param(value = "limit") int limit);
+
+    @Query(value = """
+            SELECT *
+            FROM events
+            WHERE date_time > :lastDateTime OR (date_time = :lastDateTime AND id > :lastId)
+            ORDER BY date_time, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Event> findEventsAfterCursor(@Param(value = "lastDateTime") LocalDateTime lastDateTime,
+                                      @Param(value = "lastId") Long lastId,
+                                      @Param(value = "limit") int limit);
+
+    @Query(value = """
+            SELECT e.updatedAt
+            FROM Event e
+            WHERE e.id = :eventId
+            """)
+    Optional<LocalDateTime> findUpdatedAtById(@Param(value = "eventId") Long eventId);
 }
@@ -1,11 +1,15 @@
 package com.giarts.ateliegiarts.repository;
 
+import com.giarts.ateliegiarts.dto.ImageListVersionDTO;
+import com.giarts.ateliegiarts.dto.product.ProductMainImageDTO;
 import com.giarts.ateliegiarts.model.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
     @Query(value = """
@@ -14,4 +18,21 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
             WHERE product_id = :productId
             """, nativeQuery = true)
     List<ProductImage> findAllByProductId(@Param(value = "productId") Long productId);
+
+    @Query(value = """
+            SELECT new com.giarts.ateliegiarts.dto.product.ProductMainImageDTO(pi.product.id, pi.imageUrl)
+            FROM ProductImage pi
+            WHERE pi.product.id IN :productIds AND pi.isMainImage = TRUE
+            ORDER BY pi.id
+            """)
+    List<ProductMainImageDTO> findMainImagesByProductIds(@Param(value = "productIds") Collection<Long> productIds);
+
+    @Query(value = """
+            SELECT new com.giarts.ateliegiarts.dto.ImageListVersionDTO(p.updatedAt, COUNT(pi), MAX(pi.id))
+            FROM Product p
+            LEFT JOIN ProductImage pi ON pi.product = p
+            WHERE p.id = :productId
+            GROUP BY p.id, p.updatedAt
+            """)
+    Optional<ImageListVersionDTO> findImageListVersionByProductId(@Param(value = "productId") Long productId);
 }
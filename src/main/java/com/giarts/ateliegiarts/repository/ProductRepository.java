@@ -1,12 +1,24 @@
 package com.giarts.ateliegiarts.repository;
 
+import com.giarts.ateliegiarts.dto.product.ProductTypeCountDTO;
+import com.giarts.ateliegiarts.dto.product.ProductWithImageDTO;
 import com.giarts.ateliegiarts.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "products"))
     @Query(value = """
             SELECT *
             FROM products
@@ -15,4 +27,60 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             FROM products
             """, nativeQuery = true)
     Page<Product> findAllProductsPaginated(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "products"))
+    @Query(value = """
+            SELECT *
+            FROM products
+            """, nativeQuery = true)
+    Slice<Product> findAllProductsSliced(Pageable pageable);
+
+    @Query(value = """
+            SELECT *
+            FROM products
+            ORDER BY id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Product> findFirstProducts(@Param(value = "limit") int limit);
+
+    @Query(value = """
+            SELECT *
+            FROM products
+            WHERE id < :lastId
+            ORDER BY id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Product> findProductsAfterCursor(@Param(value = "lastId") Long lastId, @Param(value = "limit") int limit);
+
+    @Query(value = """
+            SELECT new com.giarts.ateliegiarts.dto.product.ProductWithImageDTO(p, pi)
+            FROM Product p
+            LEFT JOIN ProductImage pi ON pi.product = p
+            WHERE p.id = :productId
+            ORDER BY pi.isMainImage DESC, pi.id
+            """)
+    List<ProductWithImageDTO> findProductWithImagesById(@Param(value = "productId") Long productId);
+
+    @Query(value = """
+            SELECT new com.giarts.ateliegiarts.dto.product.ProductWithImageDTO(p, pi)
+            FROM Product p
+            LEFT JOIN ProductImage pi ON pi.product = p
+            ORDER BY p.id, pi.isMainImage DESC, pi.id
+            """)
+    List<ProductWithImageDTO> findAllProductsWithImages();
+
+    @Query(value = """
+            SELECT new com.giarts.ateliegiarts.dto.product.ProductTypeCountDTO(p.productType, COUNT(p))
+            FROM Product p
+            WHERE p.productType IS NOT NULL
+            GROUP BY p.productType
+            """)
+    List<ProductTypeCountDTO> countProductsByType();
+
+    @Query(value = """
+            SELECT p.updatedAt
+            FROM Product p
+            WHERE p.id = :productId
+            """)
+    Optional<LocalDateTime> findUpdatedAtById(@Param(value = "productId") Long productId);
 }
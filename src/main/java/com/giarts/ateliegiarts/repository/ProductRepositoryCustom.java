@@ -0,0 +1,13 @@
+package com.giarts.ateliegiarts.repository;
+
+import com.giarts.ateliegiarts.dto.product.ProductFilterDTO;
+import com.giarts.ateliegiarts.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ProductRepositoryCustom {
+    Page<Product> findAllProductsFiltered(ProductFilterDTO filter, Pageable pageable);
+
+    Slice<Product> findAllProductsFilteredSliced(ProductFilterDTO filter, Pageable pageable);
+}
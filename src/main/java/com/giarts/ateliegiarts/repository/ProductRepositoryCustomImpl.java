@@ -0,0 +1,88 @@
+package com.giarts.ateliegiarts.repository;
+
+import com.giarts.ateliegiarts.dto.product.ProductFilterDTO;
+import com.giarts.ateliegiarts.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Product> findAllProductsFiltered(ProductFilterDTO filter, Pageable pageable) {
+        List<Product> products = createFilteredQuery(filter, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(products, pageable, () -> countFiltered(filter));
+    }
+
+    @Override
+    public Slice<Product> findAllProductsFilteredSliced(ProductFilterDTO filter, Pageable pageable) {
+        List<Product> products = createFilteredQuery(filter, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = products.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? products.subList(0, pageable.getPageSize()) : products, pageable, hasNext);
+    }
+
+    private TypedQuery<Product> createFilteredQuery(ProductFilterDTO filter, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = criteriaBuilder.createQuery(Product.class);
+        Root<Product> product = query.from(Product.class);
+        query.where(filterPredicates(criteriaBuilder, product, filter))
+                .orderBy(QueryUtils.toOrders(sort, product, criteriaBuilder));
+
+        return entityManager.createQuery(query);
+    }
+
+    private long countFiltered(ProductFilterDTO filter) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(criteriaBuilder.count(product))
+                .where(filterPredicates(criteriaBuilder, product, filter));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] filterPredicates(CriteriaBuilder criteriaBuilder, Root<Product> product, ProductFilterDTO filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.productType() != null) {
+            predicates.add(criteriaBuilder.equal(product.get("productType"), filter.productType()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(product.<LocalDateTime>get("createdAt"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(product.<LocalDateTime>get("createdAt"), filter.createdTo()));
+        }
+        if (filter.updatedFrom() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(product.<LocalDateTime>get("updatedAt"), filter.updatedFrom()));
+        }
+        if (filter.updatedTo() != null) {
+            predicates.add(criteriaBuilder.lessThanOrEqualTo(product.<LocalDateTime>get("updatedAt"), filter.updatedTo()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
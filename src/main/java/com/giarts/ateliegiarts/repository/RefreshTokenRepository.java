@@ -0,0 +1,48 @@
+package com.giarts.ateliegiarts.repository;
+
+import com.giarts.ateliegiarts.model.RefreshToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    @Query(value = """
+            SELECT *
+            FROM refresh_tokens
+            WHERE token_hash = :tokenHash
+            """, nativeQuery = true)
+    Optional<RefreshToken> findByTokenHash(@Param(value = "tokenHash") String tokenHash);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = """
+            UPDATE refresh_tokens
+            SET revoked = TRUE, updated_at = NOW()
+            WHERE id = :refreshTokenId AND revoked = FALSE
+            """, nativeQuery = true)
+    int revokeIfActive(@Param(value = "refreshTokenId") Long refreshTokenId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = """
+            UPDATE refresh_tokens
+            SET revoked = TRUE, updated_at = NOW()
+            WHERE family_id = :familyId
+            """, nativeQuery = true)
+    int revokeFamily(@Param(value = "familyId") String familyId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = """
+            DELETE FROM refresh_tokens
+            WHERE expires_at < :now
+            """, nativeQuery = true)
+    int deleteAllExpired(@Param(value = "now") LocalDateTime now);
+}
@@ -1,11 +1,17 @@
 package com.giarts.ateliegiarts.repository;
 
+import com.giarts.ateliegiarts.dto.user.UserTokenVersionDTO;
 import com.giarts.ateliegiarts.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,4 +29,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
             WHERE u.email = :email
             """)
     Boolean existsByEmail(@Param(value = "email") String email);
+
+    @Query(value = """
+            SELECT new com.giarts.ateliegiarts.dto.user.UserTokenVersionDTO(u.id, u.tokenVersion)
+            FROM User u
+            ORDER BY u.id
+            """)
+    List<UserTokenVersionDTO> findAllTokenVersions();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = """
+            UPDATE users
+            SET password = :newPassword
+            WHERE id = :userId AND password = :currentPassword
+            """, nativeQuery = true)
+    int updatePasswordHash(@Param(value = "userId") Long userId,
+                           @Param(value = "currentPassword") String currentPassword,
+                           @Param(value = "newPassword") String newPassword);
 }
@@ -2,17 +2,21 @@ package com.giarts.ateliegiarts.repository;
 
 import com.giarts.ateliegiarts.enums.EUserRole;
 import com.giarts.ateliegiarts.model.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRoleRepository extends JpaRepository<UserRole, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query(value = """
-            SELECT *
-            FROM roles
-            WHERE user_role = :userRole
-            """, nativeQuery = true)
+            SELECT r
+            FROM UserRole r
+            WHERE r.userRole = :userRole
+            """)
     Optional<UserRole> findByUserRole(@Param(value = "userRole") EUserRole userRole);
 }
@@ -0,0 +1,63 @@
+package com.giarts.ateliegiarts.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Slf4j
+public class BCryptStrengthCalibrator {
+    private static final String METRIC_NAME = "auth.password.hashing.strength";
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    @Getter
+    private final int strength;
+
+    public BCryptStrengthCalibrator(@Value("${api.security.password-hashing.target-latency}") Duration targetLatency,
+                                    @Value("${api.security.password-hashing.minimum-strength}") int minimumStrength,
+                                    @Value("${api.security.password-hashing.maximum-strength}") int maximumStrength,
+                                    MeterRegistry meterRegistry) {
+        long minimumStrengthNanos = measureHashNanos(minimumStrength);
+        this.strength = calibrate(targetLatency.toNanos(), minimumStrengthNanos, minimumStrength, maximumStrength);
+
+        Gauge.builder(METRIC_NAME, this, BCryptStrengthCalibrator::getStrength)
+                .description("BCrypt strength calibrated for the password hashing latency budget")
+                .register(meterRegistry);
+
+        log.info("Calibrated BCrypt strength to {} for a target latency of {}. Strength {} took {} ms",
+                strength, targetLatency, minimumStrength, Duration.ofNanos(minimumStrengthNanos).toMillis());
+    }
+
+    public static int calibrate(long targetNanos, long minimumStrengthNanos, int minimumStrength, int maximumStrength) {
+        int calibratedStrength = minimumStrength;
+        long expectedNanos = minimumStrengthNanos;
+
+        while (calibratedStrength < maximumStrength && expectedNanos * 2 <= targetNanos) {
+            calibratedStrength++;
+            expectedNanos *= 2;
+        }
+
+        return calibratedStrength;
+    }
+
+    private static long measureHashNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(CALIBRATION_PASSWORD);
+
+        long fastestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+        }
+
+        return fastestNanos;
+    }
+}
@@ -0,0 +1,189 @@
+package com.giarts.ateliegiarts.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.giarts.ateliegiarts.dto.authentication.JsonWebKeyDTO;
+import com.giarts.ateliegiarts.enums.ESigningAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class JwtSigningKeyRing {
+    private static final String SECRET_KEY_ID = "hs256";
+    private static final int EC_COORDINATE_BYTES = 32;
+    private static final int RSA_KEY_BITS = 2048;
+
+    private final ESigningAlgorithm signingAlgorithm;
+    private final Duration accessTokenTtl;
+    private volatile KeySet keySet;
+
+    public JwtSigningKeyRing(@Value("${api.security.token.algorithm}") ESigningAlgorithm signingAlgorithm,
+                             @Value("${api.security.token.secret}") String secretKey,
+                             @Value("${api.security.token.access-token-ttl}") Duration accessTokenTtl) {
+        this.signingAlgorithm = signingAlgorithm;
+        this.accessTokenTtl = accessTokenTtl;
+
+        if (signingAlgorithm == ESigningAlgorithm.HS256) {
+            SigningKey secret = createSigningKey(SECRET_KEY_ID, Algorithm.HMAC256(secretKey), null, null);
+            this.keySet = new KeySet(secret, secret, Map.of(SECRET_KEY_ID, secret));
+        } else {
+            SigningKey currentKey = generateSigningKey();
+            SigningKey nextKey = generateSigningKey();
+            this.keySet = new KeySet(currentKey, nextKey, orderedKeys(nextKey, currentKey));
+        }
+    }
+
+    public SigningKey getCurrentKey() {
+        return keySet.currentKey();
+    }
+
+    public Optional<JWTVerifier> getVerifier(String keyId) {
+        KeySet currentKeySet = keySet;
+        if (keyId == null) {
+            return signingAlgorithm == ESigningAlgorithm.HS256
+                    ? Optional.of(currentKeySet.currentKey().verifier())
+                    : Optional.empty();
+        }
+
+        return Optional.ofNullable(currentKeySet.keys().get(keyId))
+                .map(SigningKey::verifier);
+    }
+
+    public List<JsonWebKeyDTO> getPublicKeys() {
+        return keySet.keys().values().stream()
+                .filter(signingKey -> signingKey.publicKey() != null)
+                .map(this::toJsonWebKey)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${api.security.token.key-rotation-interval}",
+            initialDelayString = "${api.security.token.key-rotation-interval}")
+    public void rotateKeys() {
+        if (signingAlgorithm == ESigningAlgorithm.HS256) {
+            return;
+        }
+
+        log.info("Rotating JWT signing key");
+
+        Instant now = Instant.now();
+        KeySet previousKeySet = keySet;
+        SigningKey currentKey = previousKeySet.nextKey();
+        SigningKey nextKey = generateSigningKey();
+
+        Map<String, SigningKey> keys = orderedKeys(nextKey, currentKey);
+        SigningKey retiredKey = previousKeySet.currentKey().retire(now);
+        keys.put(retiredKey.keyId(), retiredKey);
+        previousKeySet.keys().values().stream()
+                .filter(signingKey -> signingKey.retiredAt() != null)
+                .filter(signingKey -> signingKey.retiredAt().plus(accessTokenTtl).isAfter(now))
+                .forEach(signingKey -> keys.putIfAbsent(signingKey.keyId(), signingKey));
+
+        keySet = new KeySet(currentKey, nextKey, keys);
+
+        log.debug("Signing with key: {}. {} keys published", currentKey.keyId(), keys.size());
+    }
+
+    private SigningKey generateSigningKey() {
+        String keyId = UUID.randomUUID().toString();
+
+        try {
+            if (signingAlgorithm == ESigningAlgorithm.ES256) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                KeyPair keyPair = generator.generateKeyPair();
+
+                ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+                Algorithm algorithm = Algorithm.ECDSA256(publicKey, (ECPrivateKey) keyPair.getPrivate());
+                return createSigningKey(keyId, algorithm, publicKey, null);
+            }
+
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(RSA_KEY_BITS);
+            KeyPair keyPair = generator.generateKeyPair();
+
+            RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+            Algorithm algorithm = Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate());
+            return createSigningKey(keyId, algorithm, publicKey, null);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to generate " + signingAlgorithm + " signing key", ex);
+        }
+    }
+
+    private static SigningKey createSigningKey(String keyId, Algorithm algorithm, PublicKey publicKey, Instant retiredAt) {
+        JWTVerifier verifier = JWT.require(algorithm)
+                .withIssuer(JwtTokenService.ISSUER)
+                .build();
+        return new SigningKey(keyId, algorithm, verifier, publicKey, retiredAt);
+    }
+
+    private static Map<String, SigningKey> orderedKeys(SigningKey... signingKeys) {
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        for (SigningKey signingKey : signingKeys) {
+            keys.put(signingKey.keyId(), signingKey);
+        }
+        return keys;
+    }
+
+    private JsonWebKeyDTO toJsonWebKey(SigningKey signingKey) {
+        if (signingKey.publicKey() instanceof ECPublicKey ecPublicKey) {
+            return new JsonWebKeyDTO("EC", signingKey.keyId(), "sig", signingKey.algorithm().getName(), "P-256",
+                    encode(ecPublicKey.getW().getAffineX(), EC_COORDINATE_BYTES),
+                    encode(ecPublicKey.getW().getAffineY(), EC_COORDINATE_BYTES),
+                    null, null);
+        }
+
+        RSAPublicKey rsaPublicKey = (RSAPublicKey) signingKey.publicKey();
+        return new JsonWebKeyDTO("RSA", signingKey.keyId(), "sig", signingKey.algorithm().getName(), null, null, null,
+                encode(rsaPublicKey.getModulus(), 0),
+                encode(rsaPublicKey.getPublicExponent(), 0));
+    }
+
+    private static String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record SigningKey(String keyId, Algorithm algorithm, JWTVerifier verifier, PublicKey publicKey,
+                             Instant retiredAt) {
+        private SigningKey retire(Instant retiredAt) {
+            return new SigningKey(keyId, algorithm, verifier, publicKey, retiredAt);
+        }
+    }
+
+    private record KeySet(SigningKey currentKey, SigningKey nextKey, Map<String, SigningKey> keys) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.giarts.ateliegiarts.security;
+
+import java.time.Instant;
+import java.util.List;
+
+public record JwtTokenClaims(
+        String subject,
+        String tokenId,
+        Instant expiresAt,
+        Long userId,
+        List<String> roles,
+        Integer tokenVersion
+) {
+    public boolean hasUserClaims() {
+        return userId != null && roles != null && tokenVersion != null;
+    }
+}
@@ -1,36 +1,75 @@
 package com.giarts.ateliegiarts.security;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @Slf4j
 public class JwtTokenService {
-    private static final String ISSUER = "giarts-api";
+    static final String ISSUER = "giarts-api";
+    private static final String VERIFIED_TOKENS_CACHE_NAME = "verifiedTokens";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${api.security.token.secret}")
-    private String secretKey;
+    private final JwtSigningKeyRing signingKeyRing;
+    private final Duration accessTokenTtl;
+    private final Cache<String, DecodedJWT> verifiedTokens;
+
+    public JwtTokenService(JwtSigningKeyRing signingKeyRing,
+                           @Value("${api.security.token.access-token-ttl}") Duration accessTokenTtl,
+                           @Value("${api.security.token.verified-cache.maximum-size}") long verifiedTokensMaximumSize,
+                           MeterRegistry meterRegistry) {
+        this.signingKeyRing = signingKeyRing;
+        this.accessTokenTtl = accessTokenTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokensMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, VERIFIED_TOKENS_CACHE_NAME);
+    }
 
     public String generateToken(UserDetailsImpl user) {
         try {
-            log.info("Generating token for user: {}", user.getUsername());
+            log.debug("Generating token for user: {}", user.getUsername());
 
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
+            Instant now = Instant.now();
+            JwtSigningKeyRing.SigningKey signingKey = signingKeyRing.getCurrentKey();
             String token = JWT.create()
+                    .withKeyId(signingKey.keyId())
                     .withIssuer(ISSUER)
-                    .withIssuedAt(generateCreationDate())
-                    .withExpiresAt(generateExpirationDate())
+                    .withJWTId(UUID.randomUUID().toString())
+                    .withIssuedAt(now)
+                    .withExpiresAt(generateExpirationDate(now))
                     .withSubject(user.getUsername())
-                    .sign(algorithm);
+                    .withClaim(USER_ID_CLAIM, user.getUser().getId())
+                    .withClaim(ROLES_CLAIM, getRoleNames(user))
+                    .withClaim(TOKEN_VERSION_CLAIM, user.getUser().getTokenVersion())
+                    .sign(signingKey.algorithm());
 
             log.debug("Token successfully generated for user: {}", user.getUsername());
 
@@ -41,31 +80,89 @@ public class JwtTokenService {
         }
     }
 
-    private Instant generateCreationDate() {
-        return ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).toInstant();
+    private List<String> getRoleNames(UserDetailsImpl user) {
+        return user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
     }
 
-    private Instant generateExpirationDate() {
-        return ZonedDateTime.now(ZoneId.of("America/Sao_Paulo")).plusHours(4).toInstant();
+    private Instant generateExpirationDate(Instant creationDate) {
+        return creationDate.plus(accessTokenTtl);
     }
 
     public String getSubjectFromToken(String token) {
-        try {
-            log.info("Retrieving subject from token");
+        log.debug("Retrieving subject from token");
 
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            String subject = JWT.require(algorithm)
-                    .withIssuer(ISSUER)
-                    .build()
-                    .verify(token)
-                    .getSubject();
+        String subject = verifyToken(token).getSubject();
+
+        log.debug("Subject retrieved successfully from token");
+
+        return subject;
+    }
+
+    public JwtTokenClaims getClaimsFromToken(String token) {
+        log.debug("Retrieving claims from token");
 
-            log.debug("Subject retrieved successfully from token");
+        DecodedJWT decodedToken = verifyToken(token);
+        Claim userId = decodedToken.getClaim(USER_ID_CLAIM);
+        Claim roles = decodedToken.getClaim(ROLES_CLAIM);
+        Claim tokenVersion = decodedToken.getClaim(TOKEN_VERSION_CLAIM);
+
+        return new JwtTokenClaims(
+                decodedToken.getSubject(),
+                decodedToken.getId(),
+                decodedToken.getExpiresAtAsInstant(),
+                userId.asLong(),
+                roles.asList(String.class),
+                tokenVersion.asInt()
+        );
+    }
+
+    private DecodedJWT verifyToken(String token) {
+        String tokenDigest = digest(token);
+
+        DecodedJWT cachedToken = verifiedTokens.getIfPresent(tokenDigest);
+        if (cachedToken != null && cachedToken.getExpiresAtAsInstant().isAfter(Instant.now())) {
+            return cachedToken;
+        }
 
-            return subject;
+        try {
+            DecodedJWT unverifiedToken = JWT.decode(token);
+            JWTVerifier verifier = signingKeyRing.getVerifier(unverifiedToken.getKeyId())
+                    .orElseThrow(() -> new JWTVerificationException("Unknown signing key: " + unverifiedToken.getKeyId()));
+            DecodedJWT decodedToken = verifier.verify(unverifiedToken);
+            verifiedTokens.put(tokenDigest, decodedToken);
+
+            return decodedToken;
         } catch (JWTVerificationException ex) {
             log.error("Token verification failed for user. Token might be invalid or expired", ex);
             throw new JWTVerificationException("Invalid or expired token", ex);
         }
     }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, DecodedJWT> {
+        @Override
+        public long expireAfterCreate(String key, DecodedJWT token, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.getExpiresAtAsInstant()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, DecodedJWT token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, DecodedJWT token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
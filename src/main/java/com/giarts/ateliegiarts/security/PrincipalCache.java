@@ -0,0 +1,48 @@
+package com.giarts.ateliegiarts.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@Slf4j
+public class PrincipalCache {
+    private static final String CACHE_NAME = "principals";
+
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public PrincipalCache(@Value("${api.security.principal-cache.maximum-size}") long maximumSize,
+                          @Value("${api.security.principal-cache.ttl}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<UserDetailsImpl> getPrincipal(String subject, Function<String, Optional<UserDetailsImpl>> loader) {
+        return Optional.ofNullable(cache.get(subject, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void invalidateUser(Long userId) {
+        log.debug("Invalidating cached principals for user with ID: {}", userId);
+
+        cache.asMap().values().removeIf(userDetails -> userDetails.getUser().getId().equals(userId));
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,47 @@
+package com.giarts.ateliegiarts.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class PublicRoutes {
+    public static final String[] DOCUMENTATION_PATHS = {"/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html"};
+    public static final String[] CATALOG_READ_PATHS = {"/products/**", "/events/**"};
+
+    private static final List<PublicRoute> ROUTES = Stream.concat(
+            Arrays.stream(DOCUMENTATION_PATHS).map(path -> PublicRoute.of(null, path)),
+            Arrays.stream(CATALOG_READ_PATHS).map(path -> PublicRoute.of(HttpMethod.GET, path))
+    ).toList();
+
+    private PublicRoutes() {
+    }
+
+    public static boolean isPublicRead(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+
+        for (PublicRoute route : ROUTES) {
+            if (route.matches(method, path)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private record PublicRoute(HttpMethod method, PathPattern pattern) {
+        private static PublicRoute of(HttpMethod method, String path) {
+            return new PublicRoute(method, PathPatternParser.defaultInstance.parse(path));
+        }
+
+        private boolean matches(HttpMethod requestMethod, PathContainer path) {
+            return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.giarts.ateliegiarts.security;
+
+import com.giarts.ateliegiarts.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Service
+@Slf4j
+public class TokenRevocationService {
+    private final long expectedRevocations;
+    private final double falsePositiveProbability;
+    private final long bucketWidthSeconds;
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<String>> expirationBuckets = new ConcurrentSkipListMap<>();
+    private final Object filterLock = new Object();
+    private volatile BloomFilter revokedTokensFilter;
+
+    public TokenRevocationService(@Value("${api.security.token.revocation.expected-revocations}") long expectedRevocations,
+                                  @Value("${api.security.token.revocation.false-positive-probability}") double falsePositiveProbability,
+                                  @Value("${api.security.token.revocation.sweep-interval}") Duration sweepInterval) {
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.bucketWidthSeconds = Math.max(1, sweepInterval.toSeconds());
+        this.revokedTokensFilter = new BloomFilter(expectedRevocations, falsePositiveProbability);
+    }
+
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        log.info("Revoking token with ID: {}", tokenId);
+
+        revokedTokens.put(tokenId, expiresAt);
+        expirationBuckets.computeIfAbsent(bucketOf(expiresAt), bucket -> ConcurrentHashMap.newKeySet()).add(tokenId);
+
+        synchronized (filterLock) {
+            revokedTokensFilter.put(tokenId);
+        }
+    }
+
+    public boolean isTokenRevoked(String tokenId) {
+        if (tokenId == null || !revokedTokensFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${api.security.token.revocation.sweep-interval}")
+    public void sweepExpiredRevocations() {
+        NavigableMap<Long, Set<String>> expiredBuckets = expirationBuckets.headMap(bucketOf(Instant.now()), false);
+        if (expiredBuckets.isEmpty()) {
+            return;
+        }
+
+        int sweptTokens = 0;
+        for (Set<String> tokenIds : expiredBuckets.values()) {
+            tokenIds.forEach(revokedTokens::remove);
+            sweptTokens += tokenIds.size();
+        }
+        expiredBuckets.clear();
+
+        synchronized (filterLock) {
+            BloomFilter rebuiltFilter = new BloomFilter(Math.max(expectedRevocations, revokedTokens.size()), falsePositiveProbability);
+            revokedTokens.keySet().forEach(rebuiltFilter::put);
+            revokedTokensFilter = rebuiltFilter;
+        }
+
+        log.debug("Swept {} expired token revocations. {} revocations remain", sweptTokens, revokedTokens.size());
+    }
+
+    private long bucketOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), bucketWidthSeconds);
+    }
+}
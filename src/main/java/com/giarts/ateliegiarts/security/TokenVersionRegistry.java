@@ -0,0 +1,107 @@
+package com.giarts.ateliegiarts.security;
+
+import com.giarts.ateliegiarts.dto.user.UserTokenVersionDTO;
+import com.giarts.ateliegiarts.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenVersionRegistry {
+    private static final int REVOKED_VERSION = Integer.MAX_VALUE;
+
+    private final UserRepository userRepository;
+
+    @Value("${api.security.token.stateless-claims.enabled}")
+    private boolean statelessClaimsEnabled;
+
+    private volatile VersionTable versionTable = VersionTable.EMPTY;
+    private final Map<Long, Integer> pendingVersions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadVersions() {
+        if (statelessClaimsEnabled) {
+            refreshVersions();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${api.security.token.version-refresh-interval}")
+    public void scheduledRefresh() {
+        if (statelessClaimsEnabled) {
+            refreshVersions();
+        }
+    }
+
+    public void refreshVersions() {
+        log.debug("Refreshing token versions");
+
+        List<UserTokenVersionDTO> tokenVersions = userRepository.findAllTokenVersions();
+
+        long[] userIds = new long[tokenVersions.size()];
+        int[] versions = new int[tokenVersions.size()];
+        for (int i = 0; i < tokenVersions.size(); i++) {
+            userIds[i] = tokenVersions.get(i).userId();
+            versions[i] = tokenVersions.get(i).tokenVersion();
+        }
+
+        VersionTable refreshedTable = new VersionTable(userIds, versions);
+        versionTable = refreshedTable;
+        pendingVersions.entrySet().removeIf(entry -> refreshedTable.covers(entry.getKey(), entry.getValue()));
+
+        log.debug("Loaded token versions for {} users", userIds.length);
+    }
+
+    public boolean isTokenVersionCurrent(Long userId, int tokenVersion) {
+        Integer pendingVersion = pendingVersions.get(userId);
+        if (pendingVersion != null) {
+            return tokenVersion >= pendingVersion;
+        }
+
+        return versionTable.isCurrent(userId, tokenVersion);
+    }
+
+    public void updateVersion(Long userId, int tokenVersion) {
+        pendingVersions.merge(userId, tokenVersion, Math::max);
+    }
+
+    public void revokeUser(Long userId) {
+        pendingVersions.put(userId, REVOKED_VERSION);
+    }
+
+    private record VersionTable(long[] userIds, int[] versions) {
+        private static final VersionTable EMPTY = new VersionTable(new long[0], new int[0]);
+
+        private long highestUserId() {
+            return userIds.length == 0 ? 0 : userIds[userIds.length - 1];
+        }
+
+        private boolean isCurrent(long userId, int tokenVersion) {
+            int index = Arrays.binarySearch(userIds, userId);
+            if (index >= 0) {
+                return tokenVersion >= versions[index];
+            }
+
+            return userId > highestUserId();
+        }
+
+        private boolean covers(long userId, int pendingVersion) {
+            int index = Arrays.binarySearch(userIds, userId);
+            if (index >= 0) {
+                return versions[index] >= pendingVersion;
+            }
+
+            return pendingVersion == REVOKED_VERSION && userId <= highestUserId();
+        }
+    }
+}
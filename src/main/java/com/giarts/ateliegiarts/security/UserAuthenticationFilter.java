@@ -1,6 +1,8 @@
 package com.giarts.ateliegiarts.security;
 
+import com.giarts.ateliegiarts.enums.EUserRole;
 import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.model.UserRole;
 import com.giarts.ateliegiarts.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,12 +19,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class UserAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenService jwtTokenService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${api.security.token.stateless-claims.enabled}")
+    private boolean statelessClaimsEnabled;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return PublicRoutes.isPublicRead(request);
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -29,11 +45,10 @@ public class UserAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         if (isAuthorizationHeaderPresent(request)) {
             String token = recoveryTokenFromRequestHeader(request);
-            String subject = jwtTokenService.getSubjectFromToken(token);
-            UserDetailsImpl userDetails = getUserDetailsFromSubject(subject);
-
-            Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            resolveUserDetails(token).ifPresent(userDetails -> {
+                Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -52,8 +67,40 @@ public class UserAuthenticationFilter extends OncePerRequestFilter {
         return authorizationHeader.replace("Bearer ", "");
     }
 
-    private UserDetailsImpl getUserDetailsFromSubject(String subject) {
+    private Optional<UserDetailsImpl> resolveUserDetails(String token) {
+        JwtTokenClaims claims = jwtTokenService.getClaimsFromToken(token);
+        if (tokenRevocationService.isTokenRevoked(claims.tokenId())) {
+            return Optional.empty();
+        }
+
+        if (statelessClaimsEnabled && claims.hasUserClaims()) {
+            return getUserDetailsFromClaims(claims);
+        }
+
+        return principalCache.getPrincipal(claims.subject(), this::getUserDetailsFromSubject);
+    }
+
+    private Optional<UserDetailsImpl> getUserDetailsFromClaims(JwtTokenClaims claims) {
+        if (!tokenVersionRegistry.isTokenVersionCurrent(claims.userId(), claims.tokenVersion())) {
+            return Optional.empty();
+        }
+
+        Set<UserRole> userRoles = claims.roles().stream()
+                .map(role -> UserRole.builder().userRole(EUserRole.valueOf(role)).build())
+                .collect(Collectors.toSet());
+
+        User user = User.builder()
+                .id(claims.userId())
+                .email(claims.subject())
+                .userRoles(userRoles)
+                .tokenVersion(claims.tokenVersion())
+                .build();
+
+        return Optional.of(new UserDetailsImpl(user));
+    }
+
+    private Optional<UserDetailsImpl> getUserDetailsFromSubject(String subject) {
         Optional<User> userOptional = userRepository.findByEmail(subject);
-        return userOptional.map(UserDetailsImpl::new).orElse(null);
+        return userOptional.map(UserDetailsImpl::new);
     }
 }
@@ -4,14 +4,18 @@ import com.giarts.ateliegiarts.exception.UserNotFoundException;
 import com.giarts.ateliegiarts.model.User;
 import com.giarts.ateliegiarts.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Override
@@ -19,4 +23,22 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         User user = userRepository.findByEmail(username).orElseThrow(() -> new UserNotFoundException(username));
         return new UserDetailsImpl(user);
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((UserDetailsImpl) userDetails).getUser();
+
+        log.info("Rehashing password for user with ID: {}", user.getId());
+
+        if (userRepository.updatePasswordHash(user.getId(), user.getPassword(), newPassword) == 0) {
+            log.warn("Password for user with ID: {} changed during rehash. Keeping the new password", user.getId());
+            return userDetails;
+        }
+        user.setPassword(newPassword);
+
+        log.debug("Successfully rehashed password for user with ID: {}", user.getId());
+
+        return new UserDetailsImpl(user);
+    }
 }
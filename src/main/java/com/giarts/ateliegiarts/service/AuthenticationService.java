@@ -1,9 +1,17 @@
 package com.giarts.ateliegiarts.service;
 
+import com.giarts.ateliegiarts.dto.authentication.JsonWebKeySetDTO;
 import com.giarts.ateliegiarts.dto.authentication.JwtTokenResponseDTO;
 import com.giarts.ateliegiarts.dto.authentication.LoginRequestDTO;
+import com.giarts.ateliegiarts.dto.authentication.LogoutRequestDTO;
+import com.giarts.ateliegiarts.dto.authentication.RefreshTokenRequestDTO;
+import com.giarts.ateliegiarts.model.RefreshToken;
+import com.giarts.ateliegiarts.model.User;
 import com.giarts.ateliegiarts.repository.UserRepository;
+import com.giarts.ateliegiarts.security.JwtSigningKeyRing;
+import com.giarts.ateliegiarts.security.JwtTokenClaims;
 import com.giarts.ateliegiarts.security.JwtTokenService;
+import com.giarts.ateliegiarts.security.TokenRevocationService;
 import com.giarts.ateliegiarts.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,12 +25,43 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final JwtTokenService jwtTokenService;
+    private final JwtSigningKeyRing jwtSigningKeyRing;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottleService loginThrottleService;
+    private final TokenRevocationService tokenRevocationService;
+
+    public JwtTokenResponseDTO authenticateUser(LoginRequestDTO loginDTO, String clientIp) {
+        loginThrottleService.checkLoginAttempt(loginDTO.username(), clientIp);
 
-    public JwtTokenResponseDTO authenticateUser(LoginRequestDTO loginDTO) {
         var usernamePassword = new UsernamePasswordAuthenticationToken(loginDTO.username(), loginDTO.password());
         Authentication authentication = authenticationManager.authenticate(usernamePassword);
 
-        String token = jwtTokenService.generateToken((UserDetailsImpl) authentication.getPrincipal());
-        return new JwtTokenResponseDTO(token);
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        String token = jwtTokenService.generateToken(userDetails);
+        String refreshToken = refreshTokenService.createRefreshToken(userDetails.getUser());
+        return new JwtTokenResponseDTO(token, refreshToken);
+    }
+
+    public JwtTokenResponseDTO refreshAccessToken(RefreshTokenRequestDTO refreshTokenDTO) {
+        RefreshToken consumedRefreshToken = refreshTokenService.consumeRefreshToken(refreshTokenDTO.refreshToken());
+        User user = consumedRefreshToken.getUser();
+
+        String token = jwtTokenService.generateToken(new UserDetailsImpl(user));
+        String refreshToken = refreshTokenService.createRefreshToken(user, consumedRefreshToken.getFamilyId());
+        return new JwtTokenResponseDTO(token, refreshToken);
+    }
+
+    public void logout(String authorizationHeader, LogoutRequestDTO logoutDTO) {
+        String token = authorizationHeader.replace("Bearer ", "");
+        JwtTokenClaims claims = jwtTokenService.getClaimsFromToken(token);
+        tokenRevocationService.revokeToken(claims.tokenId(), claims.expiresAt());
+
+        if (logoutDTO != null && logoutDTO.refreshToken() != null) {
+            refreshTokenService.revokeRefreshTokenFamily(logoutDTO.refreshToken());
+        }
+    }
+
+    public JsonWebKeySetDTO getJsonWebKeySet() {
+        return new JsonWebKeySetDTO(jwtSigningKeyRing.getPublicKeys());
     }
 }
@@ -0,0 +1,105 @@
+package com.giarts.ateliegiarts.service;
+
+import com.giarts.ateliegiarts.dto.event.ResponseEventDTO;
+import com.giarts.ateliegiarts.dto.product.ProductWithImageDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductImageDTO;
+import com.giarts.ateliegiarts.repository.EventRepository;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.util.CatalogSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+@Service
+@Slf4j
+public class CatalogReadModelService {
+    private final ProductRepository productRepository;
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogReadModelService(ProductRepository productRepository,
+                                   EventRepository eventRepository,
+                                   @Value("${api.catalog.read-model.enabled}") boolean enabled) {
+        this.productRepository = productRepository;
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        refreshSnapshot();
+    }
+
+    @Scheduled(fixedDelayString = "${api.catalog.read-model.refresh-interval}",
+            initialDelayString = "${api.catalog.read-model.refresh-interval}")
+    public synchronized void refreshSnapshot() {
+        if (!enabled) {
+            return;
+        }
+
+        log.info("Loading catalog read model");
+
+        Map<Long, ResponseProductDTO> products = new HashMap<>();
+        Map<Long, List<ResponseProductImageDTO>> productImages = new HashMap<>();
+        for (ProductWithImageDTO row : productRepository.findAllProductsWithImages()) {
+            Long productId = row.product().getId();
+            products.putIfAbsent(productId, ResponseProductDTO.fromEntity(row.product()));
+            if (row.productImage() != null) {
+                productImages.computeIfAbsent(productId, id -> new ArrayList<>()).add(ResponseProductImageDTO.fromEntity(row.productImage()));
+            }
+        }
+
+        List<ResponseEventDTO> events = eventRepository.findAll().stream().map(ResponseEventDTO::fromEntity).toList();
+        CatalogSnapshot loadedSnapshot = CatalogSnapshot.of(products.values(), productImages, events);
+        snapshot = loadedSnapshot;
+
+        log.debug("Loaded catalog read model with {} products and {} events", loadedSnapshot.productCount(), loadedSnapshot.eventCount());
+    }
+
+    public void putProduct(ResponseProductDTO product) {
+        apply(current -> current.withProduct(product));
+    }
+
+    public void removeProduct(Long productId) {
+        apply(current -> current.withoutProduct(productId));
+    }
+
+    public void putProductImage(Long productId, ResponseProductImageDTO productImage) {
+        apply(current -> current.withProductImage(productId, productImage));
+    }
+
+    public void removeProductImage(Long productId, Long imageId) {
+        apply(current -> current.withoutProductImage(productId, imageId));
+    }
+
+    public void putEvent(ResponseEventDTO event) {
+        apply(current -> current.withEvent(event));
+    }
+
+    public void removeEvent(Long eventId) {
+        apply(current -> current.withoutEvent(eventId));
+    }
+
+    private synchronized void apply(UnaryOperator<CatalogSnapshot> change) {
+        CatalogSnapshot current = snapshot;
+        if (current != null) {
+            snapshot = change.apply(current);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.giarts.ateliegiarts.service;
 
+import com.giarts.ateliegiarts.dto.ImageListVersionDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
 import com.giarts.ateliegiarts.enums.EImageFolder;
+import com.giarts.ateliegiarts.exception.EventNotFoundException;
 import com.giarts.ateliegiarts.exception.ImageStoreException;
 import com.giarts.ateliegiarts.model.Event;
 import com.giarts.ateliegiarts.model.EventImage;
 import com.giarts.ateliegiarts.repository.EventImageRepository;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.giarts.ateliegiarts.util.ETagGenerator;
 import com.giarts.ateliegiarts.util.ImageUrlGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +33,7 @@ public class EventImageService {
     private final EventService eventService;
     private final FileStorageService fileStorageService;
     private final EventImageRepository eventImageRepository;
+    private final CatalogVersion catalogVersion;
 
     public List<EventImage> getAllEventImages(Long eventId) {
         log.info("Retrieving all event images for event ID: {}", eventId);
@@ -39,6 +46,21 @@ public class EventImageService {
         return eventImages;
     }
 
+    public ResourceVersionDTO getEventImagesVersion(Long eventId) {
+        log.info("Retrieving version of the images of event ID: {}", eventId);
+
+        ImageListVersionDTO imagesVersion = eventImageRepository.findImageListVersionByEventId(eventId)
+                .orElseThrow(() -> {
+                    log.warn("Event with ID: {} not found while retrieving its images version", eventId);
+                    return new EventNotFoundException(eventId);
+                });
+
+        log.debug("Images of event ID: {} are at version: {}", eventId, imagesVersion);
+
+        String eTag = ETagGenerator.generate("event-images", eventId, imagesVersion.ownerUpdatedAt(), imagesVersion.imageCount(), imagesVersion.lastImageId());
+        return new ResourceVersionDTO(eTag, null);
+    }
+
     public EventImage saveUploadedEventImage(Long eventId, MultipartFile file) {
         log.info("Saving uploaded image for event ID: {}. Image name: {}", eventId, file.getOriginalFilename());
 
@@ -51,6 +73,7 @@ public class EventImageService {
 
         EventImage eventImage = buildEventImage(eventService.getEventEntityById(eventId), file, imageUrl);
         EventImage savedEventImage = eventImageRepository.save(eventImage);
+        catalogVersion.increment(ECatalogAggregate.EVENTS);
 
         log.info("Successfully saved image for event ID: {}. Image ID: {}", eventId, savedEventImage.getId());
 
@@ -80,6 +103,7 @@ public class EventImageService {
 
         fileStorageService.deleteImageFromStorage(EImageFolder.EVENT, eventId, eventImage.getFileName());
         eventImageRepository.deleteById(imageId);
+        catalogVersion.increment(ECatalogAggregate.EVENTS);
 
         log.info("Successfully deleted image with ID: {} for event ID: {}", imageId, eventId);
     }
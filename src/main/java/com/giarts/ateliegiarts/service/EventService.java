@@ -1,33 +1,150 @@
 package com.giarts.ateliegiarts.service;
 
+import com.giarts.ateliegiarts.dto.CursorPageDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.dto.event.CreateEventDTO;
 import com.giarts.ateliegiarts.dto.event.ResponseEventDTO;
 import com.giarts.ateliegiarts.dto.event.UpdateEventDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import com.giarts.ateliegiarts.enums.EPageCountMode;
 import com.giarts.ateliegiarts.exception.EventNotFoundException;
 import com.giarts.ateliegiarts.model.Event;
 import com.giarts.ateliegiarts.repository.EventRepository;
+import com.giarts.ateliegiarts.util.CachedCount;
+import com.giarts.ateliegiarts.util.CatalogListingCache;
+import com.giarts.ateliegiarts.util.CatalogListingCache.ListingKey;
+import com.giarts.ateliegiarts.util.CatalogSnapshot;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.giarts.ateliegiarts.util.CursorCodec;
+import com.giarts.ateliegiarts.util.ETagGenerator;
+import com.giarts.ateliegiarts.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EventService {
+    private static final String CURSOR_SCOPE = "events";
+
     private final EventRepository eventRepository;
+    private final CursorCodec cursorCodec;
+    private final CatalogVersion catalogVersion;
+    private final CatalogReadModelService catalogReadModelService;
+    private final SingleFlight singleFlight;
+    private final CatalogListingCache catalogListingCache;
+    private final CachedCount eventCount = new CachedCount();
+
+    @Value("${api.pagination.cursor.max-size}")
+    private int maxCursorPageSize;
+
+    @Value("${api.pagination.cached-count.ttl}")
+    private Duration cachedCountTtl;
+
+    public ResourceVersionDTO getEventsVersion() {
+        return new ResourceVersionDTO(catalogVersion.eTag(ECatalogAggregate.EVENTS), null);
+    }
 
     public Page<ResponseEventDTO> getAllEvents(Pageable pageable) {
         log.info("Retrieving all events from page: {} with size: {}", pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<ResponseEventDTO> events = eventRepository.findAllEventsPaginated(pageable).map(ResponseEventDTO::fromEntity);
+        Page<ResponseEventDTO> events = catalogListingCache.findPage(ListingKey.of(ECatalogAggregate.EVENTS, "paginated", pageable),
+                        catalogVersion.current(ECatalogAggregate.EVENTS), Event.class, Event::getId,
+                        () -> eventRepository.findAllEventsPaginated(pageable))
+                .map(ResponseEventDTO::fromEntity);
+
+        log.debug("Found {} events in page: {}", events.getNumberOfElements(), pageable.getPageNumber());
+
+        return events;
+    }
+
+    public Slice<ResponseEventDTO> getAllEvents(Pageable pageable, EPageCountMode countMode) {
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        if (snapshot != null && isSortedById(pageable.getSort())) {
+            return getAllEventsFromSnapshot(snapshot, pageable, countMode);
+        }
+
+        if (countMode == EPageCountMode.EXACT) {
+            return getAllEvents(pageable);
+        }
+
+        log.info("Retrieving events from page: {} with size: {} and count mode: {}", pageable.getPageNumber(), pageable.getPageSize(), countMode);
+
+        Slice<ResponseEventDTO> events = catalogListingCache.findSlice(ListingKey.of(ECatalogAggregate.EVENTS, "sliced", pageable),
+                        catalogVersion.current(ECatalogAggregate.EVENTS), Event.class, Event::getId,
+                        () -> eventRepository.findAllEventsSliced(pageable))
+                .map(ResponseEventDTO::fromEntity);
+        if (countMode == EPageCountMode.CACHED) {
+            events = new PageImpl<>(events.getContent(), pageable, eventCount.get(eventRepository::count, cachedCountTtl));
+        }
 
         log.debug("Found {} events in page: {}", events.getNumberOfElements(), pageable.getPageNumber());
 
         return events;
     }
 
+    private Slice<ResponseEventDTO> getAllEventsFromSnapshot(CatalogSnapshot snapshot, Pageable pageable, EPageCountMode countMode) {
+        log.info("Retrieving events from the read model from page: {} with size: {}", pageable.getPageNumber(), pageable.getPageSize());
+
+        Sort.Order order = pageable.getSort().getOrderFor("id");
+        List<ResponseEventDTO> content = snapshot.findEvents(pageable.getOffset(), pageable.getPageSize(), order != null && order.isDescending());
+        Slice<ResponseEventDTO> events = countMode == EPageCountMode.NONE
+                ? new SliceImpl<>(content, pageable, pageable.getOffset() + content.size() < snapshot.eventCount())
+                : new PageImpl<>(content, pageable, snapshot.eventCount());
+
+        log.debug("Found {} events in the read model page: {}", events.getNumberOfElements(), pageable.getPageNumber());
+
+        return events;
+    }
+
+    private boolean isSortedById(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().equals("id"));
+    }
+
+    public CursorPageDTO<ResponseEventDTO> getAllEventsByCursor(String cursor, int size) {
+        log.info("Retrieving events after cursor with size: {}", size);
+
+        int pageSize = Math.clamp(size, 1, maxCursorPageSize);
+        List<String> cursorValues = cursor == null || cursor.isBlank() ? null : cursorCodec.decode(cursor, CURSOR_SCOPE, 2);
+        LocalDateTime lastDateTime = cursorValues != null ? LocalDateTime.parse(cursorValues.get(0)) : null;
+        Long lastEventId = cursorValues != null ? Long.valueOf(cursorValues.get(1)) : null;
+
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        List<ResponseEventDTO> events;
+        if (snapshot != null) {
+            events = snapshot.findEventsAfter(lastDateTime, lastEventId != null ? lastEventId : 0, pageSize + 1);
+        } else if (lastDateTime == null) {
+            events = eventRepository.findFirstEvents(pageSize + 1).stream().map(ResponseEventDTO::fromEntity).toList();
+        } else {
+            events = eventRepository.findEventsAfterCursor(lastDateTime, lastEventId, pageSize + 1).stream().map(ResponseEventDTO::fromEntity).toList();
+        }
+
+        boolean hasNext = events.size() > pageSize;
+        List<ResponseEventDTO> pageEvents = hasNext ? events.subList(0, pageSize) : events;
+        String nextCursor = hasNext ? encodeCursor(pageEvents.getLast()) : null;
+
+        log.debug("Found {} events after cursor. Has next page: {}", pageEvents.size(), hasNext);
+
+        return new CursorPageDTO<>(pageEvents, pageSize, nextCursor);
+    }
+
+    private String encodeCursor(ResponseEventDTO event) {
+        return cursorCodec.encode(CURSOR_SCOPE, event.dateTime().toString(), event.id().toString());
+    }
+
     public Event getEventEntityById(Long eventId) {
         log.info("Retrieving event entity by ID: {}", eventId);
 
@@ -45,7 +162,7 @@ public class EventService {
     public ResponseEventDTO getEventById(Long eventId) {
         log.info("Retrieving event by ID: {}", eventId);
 
-        ResponseEventDTO event = eventRepository.findById(eventId).map(ResponseEventDTO::fromEntity)
+        ResponseEventDTO event = findEvent(eventId)
                 .orElseThrow(() -> {
                     log.warn("Event with ID: {} not found", eventId);
                     return new EventNotFoundException(eventId);
@@ -56,15 +173,52 @@ public class EventService {
         return event;
     }
 
+    private Optional<ResponseEventDTO> findEvent(Long eventId) {
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        return snapshot != null
+                ? snapshot.findEvent(eventId)
+                : singleFlight.execute("event", eventId, () -> eventRepository.findById(eventId).map(ResponseEventDTO::fromEntity));
+    }
+
+    public ResourceVersionDTO getEventVersion(Long eventId) {
+        log.info("Retrieving version of event with ID: {}", eventId);
+
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        Optional<LocalDateTime> eventUpdatedAt = snapshot != null
+                ? snapshot.findEvent(eventId).map(ResponseEventDTO::updatedAt)
+                : singleFlight.execute("event-version", eventId, () -> eventRepository.findUpdatedAtById(eventId));
+        LocalDateTime updatedAt = eventUpdatedAt
+                .orElseThrow(() -> {
+                    log.warn("Event with ID: {} not found while retrieving its version", eventId);
+                    return new EventNotFoundException(eventId);
+                });
+
+        log.debug("Event with ID: {} was last updated at: {}", eventId, updatedAt);
+
+        return eventVersion(eventId, updatedAt);
+    }
+
+    public ResourceVersionDTO getEventVersion(ResponseEventDTO event) {
+        return eventVersion(event.id(), event.updatedAt());
+    }
+
+    private ResourceVersionDTO eventVersion(Long eventId, LocalDateTime updatedAt) {
+        return ResourceVersionDTO.of(ETagGenerator.generate("event", eventId, updatedAt), updatedAt);
+    }
+
     public ResponseEventDTO createEvent(CreateEventDTO createEventDTO) {
         log.info("Creating new event with name: {}", createEventDTO.name());
 
         Event event = new Event(createEventDTO);
         Event savedEvent = eventRepository.save(event);
+        ResponseEventDTO createdEvent = ResponseEventDTO.fromEntity(savedEvent);
+        eventCount.increment();
+        catalogVersion.increment(ECatalogAggregate.EVENTS);
+        catalogReadModelService.putEvent(createdEvent);
 
         log.debug("Successfully created event with ID: {}", savedEvent.getId());
 
-        return ResponseEventDTO.fromEntity(savedEvent);
+        return createdEvent;
     }
 
     public ResponseEventDTO updateEventById(Long eventId, UpdateEventDTO updateEventDTO) {
@@ -79,10 +233,13 @@ public class EventService {
         updateEventFields(event, updateEventDTO);
 
         Event savedEvent = eventRepository.save(event);
+        ResponseEventDTO updatedEvent = ResponseEventDTO.fromEntity(savedEvent);
+        catalogVersion.increment(ECatalogAggregate.EVENTS);
+        catalogReadModelService.putEvent(updatedEvent);
 
         log.debug("Successfully updated event with ID: {}", savedEvent.getId());
 
-        return ResponseEventDTO.fromEntity(savedEvent);
+        return updatedEvent;
     }
 
     private void updateEventFields(Event event, UpdateEventDTO updateEventDTO) {
@@ -100,6 +257,9 @@ public class EventService {
 
         validateEvent(eventId);
         eventRepository.deleteById(eventId);
+        eventCount.decrement();
+        catalogVersion.increment(ECatalogAggregate.EVENTS);
+        catalogReadModelService.removeEvent(eventId);
 
         log.info("Successfully deleted event with ID: {}", eventId);
     }
@@ -0,0 +1,123 @@
+package com.giarts.ateliegiarts.service;
+
+import com.giarts.ateliegiarts.exception.TooManyLoginAttemptsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@Slf4j
+public class LoginThrottleService {
+    private static final String METRIC_NAME = "auth.login.throttle";
+
+    private final Ticker ticker;
+    private final MeterRegistry meterRegistry;
+    private final BucketPolicy emailPolicy;
+    private final BucketPolicy clientIpPolicy;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> clientIpBuckets;
+
+    @Autowired
+    public LoginThrottleService(@Value("${api.security.login-throttle.email.capacity}") int emailCapacity,
+                                @Value("${api.security.login-throttle.email.refill-interval}") Duration emailRefillInterval,
+                                @Value("${api.security.login-throttle.client-ip.capacity}") int clientIpCapacity,
+                                @Value("${api.security.login-throttle.client-ip.refill-interval}") Duration clientIpRefillInterval,
+                                @Value("${api.security.login-throttle.maximum-keys}") long maximumKeys,
+                                @Value("${api.security.login-throttle.idle-timeout}") Duration idleTimeout,
+                                MeterRegistry meterRegistry) {
+        this(new BucketPolicy(emailCapacity, emailRefillInterval.toNanos()),
+                new BucketPolicy(clientIpCapacity, clientIpRefillInterval.toNanos()),
+                maximumKeys, idleTimeout, meterRegistry, Ticker.systemTicker());
+    }
+
+    public LoginThrottleService(BucketPolicy emailPolicy, BucketPolicy clientIpPolicy, long maximumKeys,
+                                Duration idleTimeout, MeterRegistry meterRegistry, Ticker ticker) {
+        this.ticker = ticker;
+        this.meterRegistry = meterRegistry;
+        this.emailPolicy = emailPolicy;
+        this.clientIpPolicy = clientIpPolicy;
+        this.emailBuckets = buildBucketCache(maximumKeys, idleTimeout, ticker);
+        this.clientIpBuckets = buildBucketCache(maximumKeys, idleTimeout, ticker);
+    }
+
+    private static Cache<String, TokenBucket> buildBucketCache(long maximumKeys, Duration idleTimeout, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void checkLoginAttempt(String email, String clientIp) {
+        long now = ticker.read();
+
+        if (clientIp != null) {
+            TokenBucket clientIpBucket = clientIpBuckets.get(clientIp, key -> new TokenBucket(clientIpPolicy, now));
+            if (!clientIpBucket.tryConsume(clientIpPolicy, now)) {
+                reject("client_ip", clientIpBucket.timeUntilNextToken(clientIpPolicy, now));
+            }
+        }
+
+        String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+        TokenBucket emailBucket = emailBuckets.get(normalizedEmail, key -> new TokenBucket(emailPolicy, now));
+        if (!emailBucket.tryConsume(emailPolicy, now)) {
+            reject("email", emailBucket.timeUntilNextToken(emailPolicy, now));
+        }
+
+        meterRegistry.counter(METRIC_NAME, "decision", "allowed", "key", "none").increment();
+    }
+
+    private void reject(String key, Duration retryAfter) {
+        meterRegistry.counter(METRIC_NAME, "decision", "rejected", "key", key).increment();
+        log.warn("Login attempt throttled by {} bucket. Retry after: {}", key, retryAfter);
+
+        throw new TooManyLoginAttemptsException(retryAfter);
+    }
+
+    public record BucketPolicy(int capacity, long refillIntervalNanos) {
+    }
+
+    private record BucketState(double tokens, long updatedAt) {
+    }
+
+    private static final class TokenBucket {
+        private final AtomicReference<BucketState> state;
+
+        private TokenBucket(BucketPolicy policy, long now) {
+            this.state = new AtomicReference<>(new BucketState(policy.capacity(), now));
+        }
+
+        private boolean tryConsume(BucketPolicy policy, long now) {
+            while (true) {
+                BucketState current = state.get();
+                double tokens = availableTokens(current, policy, now);
+                if (tokens < 1) {
+                    return false;
+                }
+
+                if (state.compareAndSet(current, new BucketState(tokens - 1, Math.max(now, current.updatedAt())))) {
+                    return true;
+                }
+            }
+        }
+
+        private Duration timeUntilNextToken(BucketPolicy policy, long now) {
+            double missingTokens = 1 - availableTokens(state.get(), policy, now);
+            return Duration.ofNanos((long) Math.ceil(Math.max(0, missingTokens) * policy.refillIntervalNanos()));
+        }
+
+        private static double availableTokens(BucketState bucketState, BucketPolicy policy, long now) {
+            double refilledTokens = Math.max(0, now - bucketState.updatedAt()) / (double) policy.refillIntervalNanos();
+            return Math.min(policy.capacity(), bucketState.tokens() + refilledTokens);
+        }
+    }
+}
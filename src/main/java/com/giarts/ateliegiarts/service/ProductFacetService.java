@@ -0,0 +1,82 @@
+package com.giarts.ateliegiarts.service;
+
+import com.giarts.ateliegiarts.dto.product.ProductFacetDTO;
+import com.giarts.ateliegiarts.dto.product.ProductTypeCountDTO;
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFacetService {
+    private final ProductRepository productRepository;
+    private final Map<EProductType, AtomicLong> productTypeCounts = createCounters();
+
+    private static Map<EProductType, AtomicLong> createCounters() {
+        Map<EProductType, AtomicLong> counters = new EnumMap<>(EProductType.class);
+        Arrays.stream(EProductType.values()).forEach(productType -> counters.put(productType, new AtomicLong()));
+        return counters;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFacets() {
+        reconcileFacets();
+    }
+
+    @Scheduled(fixedDelayString = "${api.catalog.facets.reconcile-interval}",
+            initialDelayString = "${api.catalog.facets.reconcile-interval}")
+    public synchronized void reconcileFacets() {
+        log.debug("Reconciling product type facets");
+
+        Map<EProductType, Long> databaseCounts = new EnumMap<>(EProductType.class);
+        productRepository.countProductsByType().stream()
+                .filter(count -> count.productType() != null)
+                .forEach(count -> databaseCounts.put(count.productType(), count.count()));
+
+        int driftedFacets = 0;
+        for (EProductType productType : EProductType.values()) {
+            long databaseCount = databaseCounts.getOrDefault(productType, 0L);
+            if (productTypeCounts.get(productType).getAndSet(databaseCount) != databaseCount) {
+                driftedFacets++;
+            }
+        }
+
+        log.debug("Reconciled product type facets. {} facets were corrected", driftedFacets);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        EProductType previousType = event.previous() != null ? event.previous().productType() : null;
+        EProductType currentType = event.current() != null ? event.current().productType() : null;
+        if (previousType == currentType) {
+            return;
+        }
+
+        if (previousType != null) {
+            productTypeCounts.get(previousType).decrementAndGet();
+        }
+        if (currentType != null) {
+            productTypeCounts.get(currentType).incrementAndGet();
+        }
+    }
+
+    public List<ProductFacetDTO> getProductTypeFacets() {
+        return Arrays.stream(EProductType.values())
+                .map(productType -> new ProductFacetDTO(productType, productType.getLabel(), productTypeCounts.get(productType).get()))
+                .toList();
+    }
+}
@@ -1,11 +1,19 @@
 package com.giarts.ateliegiarts.service;
 
+import com.giarts.ateliegiarts.dto.ImageListVersionDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductImageDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
 import com.giarts.ateliegiarts.enums.EImageFolder;
 import com.giarts.ateliegiarts.exception.ImageStoreException;
+import com.giarts.ateliegiarts.exception.ProductNotFoundException;
 import com.giarts.ateliegiarts.model.Product;
 import com.giarts.ateliegiarts.model.ProductImage;
 import com.giarts.ateliegiarts.repository.ProductImageRepository;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.giarts.ateliegiarts.util.ETagGenerator;
 import com.giarts.ateliegiarts.util.ImageUrlGenerator;
+import com.giarts.ateliegiarts.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,18 +35,38 @@ public class ProductImageService {
     private final ProductService productService;
     private final FileStorageService fileStorageService;
     private final ProductImageRepository productImageRepository;
+    private final CatalogVersion catalogVersion;
+    private final CatalogReadModelService catalogReadModelService;
+    private final SingleFlight singleFlight;
 
     public List<ProductImage> getAllProductImages(Long productId) {
         log.info("Retrieving all product images for product ID: {}", productId);
 
-        productService.validateProduct(productId);
-        List<ProductImage> productImages = productImageRepository.findAllByProductId(productId);
+        List<ProductImage> productImages = singleFlight.execute("product-images", productId, () -> {
+            productService.validateProduct(productId);
+            return productImageRepository.findAllByProductId(productId);
+        });
 
         log.debug("Found {} images for product ID: {}", productImages.size(), productId);
 
         return productImages;
     }
 
+    public ResourceVersionDTO getProductImagesVersion(Long productId) {
+        log.info("Retrieving version of the images of product ID: {}", productId);
+
+        ImageListVersionDTO imagesVersion = productImageRepository.findImageListVersionByProductId(productId)
+                .orElseThrow(() -> {
+                    log.warn("Product with ID: {} not found while retrieving its images version", productId);
+                    return new ProductNotFoundException(productId);
+                });
+
+        log.debug("Images of product ID: {} are at version: {}", productId, imagesVersion);
+
+        String eTag = ETagGenerator.generate("product-images", productId, imagesVersion.ownerUpdatedAt(), imagesVersion.imageCount(), imagesVersion.lastImageId());
+        return new ResourceVersionDTO(eTag, null);
+    }
+
     public ProductImage saveUploadedProductImage(Long productId, MultipartFile file, boolean isMainImage) {
         log.info("Saving uploaded image for product ID: {}. Image name: {}", productId, file.getOriginalFilename());
 
@@ -51,6 +79,8 @@ public class ProductImageService {
 
         ProductImage productImage = buildProductImage(productService.getProductEntityById(productId), file, imageUrl, isMainImage);
         ProductImage savedProductImage = productImageRepository.save(productImage);
+        catalogVersion.increment(ECatalogAggregate.PRODUCTS);
+        catalogReadModelService.putProductImage(productId, ResponseProductImageDTO.fromEntity(savedProductImage));
 
         log.info("Successfully saved image for product ID: {}. Image ID: {}", productId, savedProductImage.getId());
 
@@ -81,6 +111,8 @@ public class ProductImageService {
 
         fileStorageService.deleteImageFromStorage(EImageFolder.PRODUCT, productId, productImage.getFileName());
         productImageRepository.deleteById(imageId);
+        catalogVersion.increment(ECatalogAggregate.PRODUCTS);
+        catalogReadModelService.removeProductImage(productId, imageId);
 
         log.info("Successfully deleted image with ID: {} for product ID: {}", imageId, productId);
     }
@@ -0,0 +1,80 @@
+package com.giarts.ateliegiarts.service;
+
+import com.giarts.ateliegiarts.dto.product.ProductSearchResultDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.util.InvertedIndex;
+import com.giarts.ateliegiarts.util.PortugueseTextAnalyzer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchService {
+    private static final int NAME_WEIGHT = 2;
+
+    private final ProductRepository productRepository;
+    private final InvertedIndex<ProductSummaryDTO> searchIndex = new InvertedIndex<>();
+
+    @Value("${api.search.max-results}")
+    private int maxResults;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        log.info("Building product search index");
+
+        searchIndex.clear();
+        productRepository.findAll().stream()
+                .map(ProductSummaryDTO::fromEntity)
+                .forEach(this::indexProduct);
+
+        log.debug("Indexed {} products for search", searchIndex.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeletion()) {
+            searchIndex.remove(event.productId());
+        } else {
+            indexProduct(event.current());
+        }
+    }
+
+    public List<ProductSearchResultDTO> searchProducts(String query, int limit) {
+        log.info("Searching products matching: {}", query);
+
+        List<String> queryTerms = PortugueseTextAnalyzer.analyze(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProductSearchResultDTO> results = searchIndex.search(queryTerms, Math.clamp(limit, 1, maxResults)).stream()
+                .map(hit -> ProductSearchResultDTO.fromSummary(hit.value(), hit.score()))
+                .toList();
+
+        log.debug("Found {} products matching: {}", results.size(), query);
+
+        return results;
+    }
+
+    private void indexProduct(ProductSummaryDTO product) {
+        List<String> nameTerms = PortugueseTextAnalyzer.analyze(product.name());
+        List<String> terms = new ArrayList<>(nameTerms.size() * NAME_WEIGHT);
+        for (int i = 0; i < NAME_WEIGHT; i++) {
+            terms.addAll(nameTerms);
+        }
+        terms.addAll(PortugueseTextAnalyzer.analyze(product.description()));
+
+        searchIndex.put(product.id(), terms, product);
+    }
+}
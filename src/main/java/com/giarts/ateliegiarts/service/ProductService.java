@@ -1,35 +1,240 @@
 package com.giarts.ateliegiarts.service;
 
+import com.giarts.ateliegiarts.dto.CursorPageDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.dto.product.CreateProductDTO;
+import com.giarts.ateliegiarts.dto.product.ProductFilterDTO;
+import com.giarts.ateliegiarts.dto.product.ProductMainImageDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+import com.giarts.ateliegiarts.dto.product.ProductWithImageDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDetailDTO;
 import com.giarts.ateliegiarts.dto.product.ResponseProductDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductImageDTO;
 import com.giarts.ateliegiarts.dto.product.UpdateProductDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import com.giarts.ateliegiarts.enums.EPageCountMode;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.exception.InvalidSortException;
 import com.giarts.ateliegiarts.exception.ProductNotFoundException;
 import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.repository.ProductImageRepository;
 import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.util.CachedCount;
+import com.giarts.ateliegiarts.util.CatalogListingCache;
+import com.giarts.ateliegiarts.util.CatalogListingCache.ListingKey;
+import com.giarts.ateliegiarts.util.CatalogSnapshot;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.giarts.ateliegiarts.util.CursorCodec;
+import com.giarts.ateliegiarts.util.ETagGenerator;
+import com.giarts.ateliegiarts.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductService {
+    private static final String CURSOR_SCOPE = "products";
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
     private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final CursorCodec cursorCodec;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersion catalogVersion;
+    private final CatalogReadModelService catalogReadModelService;
+    private final SingleFlight singleFlight;
+    private final CatalogListingCache catalogListingCache;
+    private final CachedCount productCount = new CachedCount();
+
+    @Value("${api.pagination.cursor.max-size}")
+    private int maxCursorPageSize;
+
+    @Value("${api.pagination.cached-count.ttl}")
+    private Duration cachedCountTtl;
+
+    public ResourceVersionDTO getProductsVersion() {
+        return new ResourceVersionDTO(catalogVersion.eTag(ECatalogAggregate.PRODUCTS), null);
+    }
 
     public Page<ResponseProductDTO> getAllProducts(Pageable pageable) {
         log.info("Retrieving all products from page: {} with size: {}", pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<ResponseProductDTO> products = productRepository.findAllProductsPaginated(pageable).map(ResponseProductDTO::fromEntity);
+        Page<Product> productsPage = catalogListingCache.findPage(ListingKey.of(ECatalogAggregate.PRODUCTS, "paginated", pageable),
+                catalogVersion.current(ECatalogAggregate.PRODUCTS), Product.class, Product::getId,
+                () -> productRepository.findAllProductsPaginated(pageable));
+        Map<Long, String> mainImageUrls = findMainImageUrls(productsPage.getContent());
+        Page<ResponseProductDTO> products = productsPage.map(product -> ResponseProductDTO.fromEntity(product, mainImageUrls.get(product.getId())));
 
         log.debug("Found {} products in page: {}", products.getNumberOfElements(), pageable.getPageNumber());
 
         return products;
     }
 
+    public Slice<ResponseProductDTO> getAllProducts(Pageable pageable, EPageCountMode countMode) {
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        if (snapshot != null && isSortedById(pageable.getSort())) {
+            return getAllProductsFromSnapshot(snapshot, pageable, countMode);
+        }
+
+        if (countMode == EPageCountMode.EXACT) {
+            return getAllProducts(pageable);
+        }
+
+        log.info("Retrieving products from page: {} with size: {} and count mode: {}", pageable.getPageNumber(), pageable.getPageSize(), countMode);
+
+        Slice<Product> productsSlice = catalogListingCache.findSlice(ListingKey.of(ECatalogAggregate.PRODUCTS, "sliced", pageable),
+                catalogVersion.current(ECatalogAggregate.PRODUCTS), Product.class, Product::getId,
+                () -> productRepository.findAllProductsSliced(pageable));
+        Map<Long, String> mainImageUrls = findMainImageUrls(productsSlice.getContent());
+        Slice<ResponseProductDTO> products = productsSlice.map(product -> ResponseProductDTO.fromEntity(product, mainImageUrls.get(product.getId())));
+        if (countMode == EPageCountMode.CACHED) {
+            products = new PageImpl<>(products.getContent(), pageable, productCount.get(productRepository::count, cachedCountTtl));
+        }
+
+        log.debug("Found {} products in page: {}", products.getNumberOfElements(), pageable.getPageNumber());
+
+        return products;
+    }
+
+    private Slice<ResponseProductDTO> getAllProductsFromSnapshot(CatalogSnapshot snapshot, Pageable pageable, EPageCountMode countMode) {
+        log.info("Retrieving products from the read model from page: {} with size: {}", pageable.getPageNumber(), pageable.getPageSize());
+
+        Sort.Order order = pageable.getSort().getOrderFor("id");
+        List<ResponseProductDTO> content = snapshot.findProducts(pageable.getOffset(), pageable.getPageSize(), order != null && order.isDescending());
+        Slice<ResponseProductDTO> products = countMode == EPageCountMode.NONE
+                ? new SliceImpl<>(content, pageable, pageable.getOffset() + content.size() < snapshot.productCount())
+                : new PageImpl<>(content, pageable, snapshot.productCount());
+
+        log.debug("Found {} products in the read model page: {}", products.getNumberOfElements(), pageable.getPageNumber());
+
+        return products;
+    }
+
+    private boolean isSortedById(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().equals("id"));
+    }
+
+    public Slice<ResponseProductDTO> getAllProducts(ProductFilterDTO filter, Pageable pageable, EPageCountMode countMode) {
+        Sort sort = resolveSort(pageable.getSort(), filter);
+        if (filter.isEmpty()) {
+            return getAllProducts(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), toColumnSort(sort)), countMode);
+        }
+
+        Pageable catalogPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+
+        log.info("Retrieving products matching: {} from page: {} with size: {}", filter, pageable.getPageNumber(), pageable.getPageSize());
+
+        long version = catalogVersion.current(ECatalogAggregate.PRODUCTS);
+        Slice<Product> productsSlice = countMode == EPageCountMode.NONE
+                ? catalogListingCache.findSlice(ListingKey.of(ECatalogAggregate.PRODUCTS, "filtered-sliced", catalogPageable, filter),
+                        version, Product.class, Product::getId,
+                        () -> productRepository.findAllProductsFilteredSliced(filter, catalogPageable))
+                : catalogListingCache.findPage(ListingKey.of(ECatalogAggregate.PRODUCTS, "filtered", catalogPageable, filter),
+                        version, Product.class, Product::getId,
+                        () -> productRepository.findAllProductsFiltered(filter, catalogPageable));
+        Map<Long, String> mainImageUrls = findMainImageUrls(productsSlice.getContent());
+        Slice<ResponseProductDTO> products = productsSlice.map(product -> ResponseProductDTO.fromEntity(product, mainImageUrls.get(product.getId())));
+
+        log.debug("Found {} products matching filter in page: {}", products.getNumberOfElements(), pageable.getPageNumber());
+
+        return products;
+    }
+
+    private Sort resolveSort(Sort sort, ProductFilterDTO filter) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() > 1) {
+            throw new InvalidSortException("Only one sort key is supported");
+        }
+
+        Sort.Order order = orders.isEmpty() ? Sort.Order.asc("id") : orders.get(0);
+        String property = order.getProperty();
+        if (!SORT_COLUMNS.containsKey(property)) {
+            throw new InvalidSortException("Sort key must be one of: id, name, createdAt, updatedAt");
+        }
+
+        if (filter.hasCreatedRange() && !property.equals("createdAt")) {
+            throw new InvalidSortException("Filtering by creation date requires sort=createdAt");
+        }
+
+        if (filter.hasUpdatedRange() && !property.equals("updatedAt")) {
+            throw new InvalidSortException("Filtering by update date requires sort=updatedAt");
+        }
+
+        return property.equals("id") ? Sort.by(order.getDirection(), "id") : Sort.by(order.getDirection(), property, "id");
+    }
+
+    private Sort toColumnSort(Sort sort) {
+        return Sort.by(sort.stream().map(order -> order.withProperty(SORT_COLUMNS.get(order.getProperty()))).toList());
+    }
+
+    public CursorPageDTO<ResponseProductDTO> getAllProductsByCursor(String cursor, int size) {
+        log.info("Retrieving products after cursor with size: {}", size);
+
+        int pageSize = Math.clamp(size, 1, maxCursorPageSize);
+        Long lastProductId = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        List<ResponseProductDTO> products = snapshot != null
+                ? snapshot.findProductsBefore(lastProductId != null ? lastProductId : Long.MAX_VALUE, pageSize + 1)
+                : findProductsBefore(lastProductId, pageSize + 1);
+
+        boolean hasNext = products.size() > pageSize;
+        List<ResponseProductDTO> pageProducts = hasNext ? products.subList(0, pageSize) : products;
+        String nextCursor = hasNext ? cursorCodec.encode(CURSOR_SCOPE, pageProducts.getLast().id().toString()) : null;
+
+        log.debug("Found {} products after cursor. Has next page: {}", pageProducts.size(), hasNext);
+
+        return new CursorPageDTO<>(pageProducts, pageSize, nextCursor);
+    }
+
+    private List<ResponseProductDTO> findProductsBefore(Long lastProductId, int limit) {
+        List<Product> products = lastProductId == null
+                ? productRepository.findFirstProducts(limit)
+                : productRepository.findProductsAfterCursor(lastProductId, limit);
+
+        Map<Long, String> mainImageUrls = findMainImageUrls(products);
+        return products.stream()
+                .map(product -> ResponseProductDTO.fromEntity(product, mainImageUrls.get(product.getId())))
+                .toList();
+    }
+
+    private Map<Long, String> findMainImageUrls(List<Product> products) {
+        if (products.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+        return productImageRepository.findMainImagesByProductIds(productIds).stream()
+                .collect(Collectors.toMap(ProductMainImageDTO::productId, ProductMainImageDTO::imageUrl, (first, second) -> first));
+    }
+
+    private Long decodeCursor(String cursor) {
+        return Long.valueOf(cursorCodec.decode(cursor, CURSOR_SCOPE, 1).get(0));
+    }
+
     public Product getProductEntityById(Long productId) {
         log.info("Retrieving product entity by ID: {}", productId);
 
@@ -47,7 +252,7 @@ public class ProductService {
     public ResponseProductDTO getProductById(Long productId) {
         log.info("Retrieving product by ID: {}", productId);
 
-        ResponseProductDTO product = productRepository.findById(productId).map(ResponseProductDTO::fromEntity)
+        ResponseProductDTO product = findProduct(productId)
                 .orElseThrow(() -> {
                     log.warn("Product with ID: {} not found", productId);
                     return new ProductNotFoundException(productId);
@@ -58,15 +263,86 @@ public class ProductService {
         return product;
     }
 
+    private Optional<ResponseProductDTO> findProduct(Long productId) {
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        return snapshot != null
+                ? snapshot.findProduct(productId)
+                : singleFlight.execute("product", productId, () -> productRepository.findById(productId).map(ResponseProductDTO::fromEntity));
+    }
+
+    public ResourceVersionDTO getProductVersion(Long productId) {
+        log.info("Retrieving version of product with ID: {}", productId);
+
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        Optional<LocalDateTime> productUpdatedAt = snapshot != null
+                ? snapshot.findProduct(productId).map(ResponseProductDTO::updatedAt)
+                : singleFlight.execute("product-version", productId, () -> productRepository.findUpdatedAtById(productId));
+        LocalDateTime updatedAt = productUpdatedAt
+                .orElseThrow(() -> {
+                    log.warn("Product with ID: {} not found while retrieving its version", productId);
+                    return new ProductNotFoundException(productId);
+                });
+
+        log.debug("Product with ID: {} was last updated at: {}", productId, updatedAt);
+
+        return productVersion(productId, updatedAt);
+    }
+
+    public ResourceVersionDTO getProductVersion(ResponseProductDTO product) {
+        return productVersion(product.id(), product.updatedAt());
+    }
+
+    private ResourceVersionDTO productVersion(Long productId, LocalDateTime updatedAt) {
+        return ResourceVersionDTO.of(ETagGenerator.generate("product", productId, updatedAt), updatedAt);
+    }
+
+    public ResponseProductDetailDTO getProductDetailById(Long productId) {
+        log.info("Retrieving product detail by ID: {}", productId);
+
+        CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+        if (snapshot != null) {
+            ResponseProductDetailDTO productDetail = snapshot.findProductDetail(productId)
+                    .orElseThrow(() -> {
+                        log.warn("Product detail with ID: {} not found in the read model", productId);
+                        return new ProductNotFoundException(productId);
+                    });
+
+            log.debug("Successfully retrieved product detail with ID: {} and {} images from the read model", productId, productDetail.images().size());
+
+            return productDetail;
+        }
+
+        List<ProductWithImageDTO> rows = productRepository.findProductWithImagesById(productId);
+        if (rows.isEmpty()) {
+            log.warn("Product detail with ID: {} not found", productId);
+            throw new ProductNotFoundException(productId);
+        }
+
+        List<ResponseProductImageDTO> images = rows.stream()
+                .map(ProductWithImageDTO::productImage)
+                .filter(Objects::nonNull)
+                .map(ResponseProductImageDTO::fromEntity)
+                .toList();
+
+        log.debug("Successfully retrieved product detail with ID: {} and {} images", productId, images.size());
+
+        return ResponseProductDetailDTO.fromEntity(rows.get(0).product(), images);
+    }
+
     public ResponseProductDTO createProduct(CreateProductDTO createProductDTO) {
         log.info("Creating new product with name: {}", createProductDTO.name());
 
         Product product = new Product(createProductDTO);
         Product savedProduct = productRepository.save(product);
+        ResponseProductDTO createdProduct = ResponseProductDTO.fromEntity(savedProduct);
+        productCount.increment();
+        catalogVersion.increment(ECatalogAggregate.PRODUCTS);
+        catalogReadModelService.putProduct(createdProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.created(ProductSummaryDTO.fromEntity(savedProduct)));
 
         log.debug("Successfully created product with ID: {}", savedProduct.getId());
 
-        return ResponseProductDTO.fromEntity(savedProduct);
+        return createdProduct;
     }
 
     public ResponseProductDTO updateProductById(Long productId, UpdateProductDTO updateProductDTO) {
@@ -78,13 +354,18 @@ public class ProductService {
                     return new ProductNotFoundException(productId);
                 });
 
+        ProductSummaryDTO previousProduct = ProductSummaryDTO.fromEntity(product);
         updateProductFields(product, updateProductDTO);
 
         Product savedProduct = productRepository.save(product);
+        ResponseProductDTO updatedProduct = ResponseProductDTO.fromEntity(savedProduct);
+        catalogVersion.increment(ECatalogAggregate.PRODUCTS);
+        catalogReadModelService.putProduct(updatedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previousProduct, ProductSummaryDTO.fromEntity(savedProduct)));
 
         log.debug("Successfully updated product with ID: {}", savedProduct.getId());
 
-        return ResponseProductDTO.fromEntity(savedProduct);
+        return updatedProduct;
     }
 
     private void updateProductFields(Product product, UpdateProductDTO updateProductDTO) {
@@ -97,8 +378,17 @@ public class ProductService {
     public void deleteProductById(Long productId) {
         log.info("Deleting product with ID: {}", productId);
 
-        validateProduct(productId);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> {
+                    log.warn("Product with ID: {} not found while deleting", productId);
+                    return new ProductNotFoundException(productId);
+                });
+
         productRepository.deleteById(productId);
+        productCount.decrement();
+        catalogVersion.increment(ECatalogAggregate.PRODUCTS);
+        catalogReadModelService.removeProduct(productId);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(ProductSummaryDTO.fromEntity(product)));
 
         log.info("Successfully deleted product with ID: {}", productId);
     }
@@ -0,0 +1,110 @@
+package com.giarts.ateliegiarts.service;
+
+import com.giarts.ateliegiarts.dto.product.ProductSuggestionDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.util.PortugueseTextAnalyzer;
+import com.giarts.ateliegiarts.util.RadixTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class ProductSuggestionService {
+    private static final int MIN_FUZZY_PREFIX_LENGTH = 3;
+    private static final Comparator<ProductSuggestionDTO> SUGGESTION_ORDER = Comparator
+            .comparingInt((ProductSuggestionDTO suggestion) -> suggestion.name().length())
+            .thenComparing(ProductSuggestionDTO::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(ProductSuggestionDTO::id);
+
+    private final ProductRepository productRepository;
+    private final int maxSuggestions;
+    private final RadixTrie<ProductSuggestionDTO> suggestionTrie;
+
+    public ProductSuggestionService(ProductRepository productRepository,
+                                    @Value("${api.search.suggestions.max-results}") int maxSuggestions) {
+        this.productRepository = productRepository;
+        this.maxSuggestions = maxSuggestions;
+        this.suggestionTrie = new RadixTrie<>(maxSuggestions, SUGGESTION_ORDER);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSuggestions() {
+        log.info("Building product suggestion index");
+
+        suggestionTrie.clear();
+        productRepository.findAll().forEach(product -> indexProduct(ProductSummaryDTO.fromEntity(product)));
+
+        log.debug("Product suggestion index built");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.previous() != null) {
+            ProductSuggestionDTO previousSuggestion = ProductSuggestionDTO.fromSummary(event.previous());
+            suggestionKeys(previousSuggestion.name()).forEach(key -> suggestionTrie.remove(key, previousSuggestion));
+        }
+
+        if (event.current() != null) {
+            indexProduct(event.current());
+        }
+    }
+
+    public List<ProductSuggestionDTO> suggestProducts(String prefix, int limit) {
+        log.info("Suggesting products for prefix: {}", prefix);
+
+        String normalizedPrefix = PortugueseTextAnalyzer.normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        int suggestionLimit = Math.clamp(limit, 1, maxSuggestions);
+        List<ProductSuggestionDTO> suggestions = suggestionTrie.findByPrefix(normalizedPrefix, suggestionLimit);
+        if (suggestions.size() < suggestionLimit && normalizedPrefix.length() >= MIN_FUZZY_PREFIX_LENGTH) {
+            Set<ProductSuggestionDTO> mergedSuggestions = new LinkedHashSet<>(suggestions);
+            mergedSuggestions.addAll(suggestionTrie.findByPrefixWithinOneEdit(normalizedPrefix, suggestionLimit));
+            suggestions = mergedSuggestions.stream().limit(suggestionLimit).toList();
+        }
+
+        log.debug("Found {} suggestions for prefix: {}", suggestions.size(), prefix);
+
+        return suggestions;
+    }
+
+    private void indexProduct(ProductSummaryDTO product) {
+        ProductSuggestionDTO suggestion = ProductSuggestionDTO.fromSummary(product);
+        suggestionKeys(suggestion.name()).forEach(key -> suggestionTrie.put(key, suggestion));
+    }
+
+    private List<String> suggestionKeys(String name) {
+        String normalizedName = PortugueseTextAnalyzer.normalize(name);
+        if (normalizedName.isEmpty()) {
+            return List.of();
+        }
+
+        String[] words = normalizedName.split(" ");
+        List<String> keys = new ArrayList<>(words.length);
+        keys.add(normalizedName);
+
+        int offset = words[0].length() + 1;
+        for (int i = 1; i < words.length; i++) {
+            if (!PortugueseTextAnalyzer.isStopWord(words[i])) {
+                keys.add(normalizedName.substring(offset));
+            }
+            offset += words[i].length() + 1;
+        }
+
+        return keys;
+    }
+}
@@ -0,0 +1,126 @@
+package com.giarts.ateliegiarts.service;
+
+import com.giarts.ateliegiarts.exception.InvalidRefreshTokenException;
+import com.giarts.ateliegiarts.model.RefreshToken;
+import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${api.security.token.refresh-token-ttl}")
+    private Duration refreshTokenTtl;
+
+    public String createRefreshToken(User user) {
+        return createRefreshToken(user, UUID.randomUUID().toString());
+    }
+
+    public String createRefreshToken(User user, String familyId) {
+        log.info("Creating refresh token for user with ID: {}", user.getId());
+
+        String rawToken = generateRawToken();
+
+        RefreshToken refreshToken = RefreshToken.builder()
+                .tokenHash(hashToken(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .tokenVersion(user.getTokenVersion())
+                .revoked(false)
+                .expiresAt(LocalDateTime.now().plus(refreshTokenTtl))
+                .build();
+
+        refreshTokenRepository.save(refreshToken);
+
+        log.debug("Successfully created refresh token for user with ID: {} in family: {}", user.getId(), familyId);
+
+        return rawToken;
+    }
+
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RefreshToken consumeRefreshToken(String rawToken) {
+        log.info("Consuming refresh token");
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hashToken(rawToken))
+                .orElseThrow(() -> {
+                    log.warn("Refresh token not found");
+                    return new InvalidRefreshTokenException("Invalid refresh token");
+                });
+
+        if (refreshToken.getRevoked() || refreshTokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+            log.warn("Reuse of refresh token detected. Revoking token family: {}", refreshToken.getFamilyId());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            log.warn("Refresh token from family: {} is expired", refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token is expired");
+        }
+
+        if (refreshToken.getTokenVersion() < refreshToken.getUser().getTokenVersion()) {
+            log.warn("Refresh token from family: {} was issued before the user was changed", refreshToken.getFamilyId());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token is no longer valid");
+        }
+
+        log.debug("Successfully consumed refresh token from family: {}", refreshToken.getFamilyId());
+
+        return refreshToken;
+    }
+
+    @Transactional
+    public void revokeRefreshTokenFamily(String rawToken) {
+        log.info("Revoking refresh token family");
+
+        refreshTokenRepository.findByTokenHash(hashToken(rawToken))
+                .ifPresent(refreshToken -> {
+                    refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+                    log.debug("Successfully revoked refresh token family: {}", refreshToken.getFamilyId());
+                });
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${api.security.token.refresh-token-cleanup-interval}")
+    public void deleteExpiredRefreshTokens() {
+        int deletedTokens = refreshTokenRepository.deleteAllExpired(LocalDateTime.now());
+
+        log.debug("Deleted {} expired refresh tokens", deletedTokens);
+    }
+
+    private String generateRawToken() {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(tokenBytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+    }
+
+    private String hashToken(String rawToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
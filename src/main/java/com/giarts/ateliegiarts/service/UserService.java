@@ -10,7 +10,9 @@ import com.giarts.ateliegiarts.model.User;
 import com.giarts.ateliegiarts.model.UserRole;
 import com.giarts.ateliegiarts.repository.UserRepository;
 import com.giarts.ateliegiarts.repository.UserRoleRepository;
+import com.giarts.ateliegiarts.security.PrincipalCache;
 import com.giarts.ateliegiarts.security.SecurityService;
+import com.giarts.ateliegiarts.security.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
@@ -30,6 +32,8 @@ public class UserService {
     private final UserRoleRepository userRoleRepository;
     private final SecurityService securityService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
     public List<ResponseUserDTO> getAllUsers() {
         log.info("Retrieving all users");
@@ -106,6 +110,8 @@ public class UserService {
         updateUserFields(user, updateUserDTO);
 
         User savedUser = userRepository.save(user);
+        principalCache.invalidateUser(userId);
+        tokenVersionRegistry.updateVersion(userId, savedUser.getTokenVersion());
 
         log.debug("Successfully updated user with ID: {}", savedUser.getId());
 
@@ -116,6 +122,7 @@ public class UserService {
         user.setName(updateUserDTO.name());
         user.setEmail(updateUserDTO.email());
         user.setPassword(passwordEncoder.encode(updateUserDTO.password()));
+        user.setTokenVersion(user.getTokenVersion() + 1);
     }
 
     public void deleteUserById(Long userId) {
@@ -125,6 +132,8 @@ public class UserService {
 
         if (userRepository.existsById(userId)) {
             userRepository.deleteById(userId);
+            principalCache.invalidateUser(userId);
+            tokenVersionRegistry.revokeUser(userId);
             log.info("Successfully deleted user with ID: {}", userId);
         } else {
             log.warn("User with ID: {} not found while deleting", userId);
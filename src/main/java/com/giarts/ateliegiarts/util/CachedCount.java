@@ -0,0 +1,32 @@
+package com.giarts.ateliegiarts.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class CachedCount {
+    private static final long UNKNOWN = -1;
+
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+    private volatile long loadedAt;
+
+    public long get(LongSupplier loader, Duration ttl) {
+        long currentCount = count.get();
+        if (currentCount != UNKNOWN && System.nanoTime() - loadedAt < ttl.toNanos()) {
+            return currentCount;
+        }
+
+        long loadedCount = loader.getAsLong();
+        loadedAt = System.nanoTime();
+        count.set(loadedCount);
+        return loadedCount;
+    }
+
+    public void increment() {
+        count.updateAndGet(currentCount -> currentCount == UNKNOWN ? UNKNOWN : currentCount + 1);
+    }
+
+    public void decrement() {
+        count.updateAndGet(currentCount -> currentCount == UNKNOWN ? UNKNOWN : Math.max(0, currentCount - 1));
+    }
+}
@@ -0,0 +1,80 @@
+package com.giarts.ateliegiarts.util;
+
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class CatalogListingCache {
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache<ListingKey, CachedListing> listings;
+
+    public CatalogListingCache(EntityManagerFactory entityManagerFactory,
+                               @Value("${api.catalog.listing-cache.maximum-size}") long maximumSize,
+                               MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.listings = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, "catalog-listing-ids");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Page<T> findPage(ListingKey key, long version, Class<T> entityType, Function<T, Long> idOf, Supplier<Page<T>> loader) {
+        return (Page<T>) find(key, version, entityType, idOf, loader);
+    }
+
+    public <T> Slice<T> findSlice(ListingKey key, long version, Class<T> entityType, Function<T, Long> idOf, Supplier<Slice<T>> loader) {
+        return find(key, version, entityType, idOf, loader);
+    }
+
+    private <T> Slice<T> find(ListingKey key, long version, Class<T> entityType, Function<T, Long> idOf, Supplier<? extends Slice<T>> loader) {
+        CachedListing cachedListing = listings.getIfPresent(key);
+        if (cachedListing != null && cachedListing.version() == version) {
+            List<T> entities = loadByIds(entityType, cachedListing.ids().getContent());
+            if (entities.stream().allMatch(Objects::nonNull)) {
+                Iterator<T> orderedEntities = entities.iterator();
+                return cachedListing.ids().map(id -> orderedEntities.next());
+            }
+        }
+
+        Slice<T> loadedListing = loader.get();
+        listings.put(key, new CachedListing(version, loadedListing.map(idOf)));
+        return loadedListing;
+    }
+
+    private <T> List<T> loadByIds(Class<T> entityType, List<Long> ids) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return entityManager.unwrap(Session.class).byMultipleIds(entityType).with(CacheMode.NORMAL).multiLoad(ids);
+        }
+    }
+
+    public record ListingKey(ECatalogAggregate aggregate, String query, Pageable pageable, List<Object> parameters) {
+        public static ListingKey of(ECatalogAggregate aggregate, String query, Pageable pageable, Object... parameters) {
+            return new ListingKey(aggregate, query, pageable, Arrays.asList(parameters));
+        }
+    }
+
+    private record CachedListing(long version, Slice<Long> ids) {
+    }
+}
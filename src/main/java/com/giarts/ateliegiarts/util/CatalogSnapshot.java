@@ -0,0 +1,283 @@
+package com.giarts.ateliegiarts.util;
+
+import com.giarts.ateliegiarts.dto.event.ResponseEventDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDetailDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductImageDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+public final class CatalogSnapshot {
+    private static final ResponseProductImageDTO[] NO_IMAGES = new ResponseProductImageDTO[0];
+    private static final Comparator<ResponseProductImageDTO> IMAGE_ORDER = Comparator
+            .comparing((ResponseProductImageDTO image) -> !Boolean.TRUE.equals(image.isMainImage()))
+            .thenComparing(ResponseProductImageDTO::id);
+
+    private final long[] productIds;
+    private final ResponseProductDTO[] products;
+    private final ResponseProductImageDTO[][] productImages;
+    private final long[] eventIds;
+    private final ResponseEventDTO[] events;
+    private final int[] eventsByDateTime;
+
+    private CatalogSnapshot(long[] productIds, ResponseProductDTO[] products, ResponseProductImageDTO[][] productImages,
+                            long[] eventIds, ResponseEventDTO[] events, int[] eventsByDateTime) {
+        this.productIds = productIds;
+        this.products = products;
+        this.productImages = productImages;
+        this.eventIds = eventIds;
+        this.events = events;
+        this.eventsByDateTime = eventsByDateTime;
+    }
+
+    public static CatalogSnapshot of(Collection<ResponseProductDTO> products,
+                                     Map<Long, List<ResponseProductImageDTO>> productImages,
+                                     Collection<ResponseEventDTO> events) {
+        ResponseProductDTO[] sortedProducts = products.stream()
+                .sorted(Comparator.comparing(ResponseProductDTO::id))
+                .toArray(ResponseProductDTO[]::new);
+        ResponseProductImageDTO[][] sortedImages = new ResponseProductImageDTO[sortedProducts.length][];
+        for (int i = 0; i < sortedProducts.length; i++) {
+            sortedImages[i] = sortImages(productImages.getOrDefault(sortedProducts[i].id(), List.of()).toArray(NO_IMAGES));
+            sortedProducts[i] = sortedProducts[i].withMainImageUrl(mainImageUrlOf(sortedImages[i]));
+        }
+
+        ResponseEventDTO[] sortedEvents = events.stream()
+                .sorted(Comparator.comparing(ResponseEventDTO::id))
+                .toArray(ResponseEventDTO[]::new);
+
+        return new CatalogSnapshot(
+                Arrays.stream(sortedProducts).mapToLong(ResponseProductDTO::id).toArray(),
+                sortedProducts,
+                sortedImages,
+                Arrays.stream(sortedEvents).mapToLong(ResponseEventDTO::id).toArray(),
+                sortedEvents,
+                orderByDateTime(sortedEvents)
+        );
+    }
+
+    public int productCount() {
+        return productIds.length;
+    }
+
+    public int eventCount() {
+        return eventIds.length;
+    }
+
+    public Optional<ResponseProductDTO> findProduct(long productId) {
+        int index = Arrays.binarySearch(productIds, productId);
+        return index >= 0 ? Optional.of(products[index].withMainImageUrl(null)) : Optional.empty();
+    }
+
+    public Optional<ResponseProductDetailDTO> findProductDetail(long productId) {
+        int index = Arrays.binarySearch(productIds, productId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ResponseProductDetailDTO.fromProduct(products[index], List.of(productImages[index])));
+    }
+
+    public List<ResponseProductDTO> findProducts(long offset, int limit, boolean descending) {
+        return slice(products, offset, limit, descending);
+    }
+
+    public List<ResponseProductDTO> findProductsBefore(long lastProductId, int limit) {
+        int end = insertionPoint(Arrays.binarySearch(productIds, lastProductId));
+
+        List<ResponseProductDTO> page = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+            page.add(products[i]);
+        }
+        return page;
+    }
+
+    public Optional<ResponseEventDTO> findEvent(long eventId) {
+        int index = Arrays.binarySearch(eventIds, eventId);
+        return index >= 0 ? Optional.of(events[index]) : Optional.empty();
+    }
+
+    public List<ResponseEventDTO> findEvents(long offset, int limit, boolean descending) {
+        return slice(events, offset, limit, descending);
+    }
+
+    public List<ResponseEventDTO> findEventsAfter(LocalDateTime lastDateTime, long lastEventId, int limit) {
+        int low = 0;
+        int high = eventsByDateTime.length;
+        if (lastDateTime != null) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                ResponseEventDTO event = events[eventsByDateTime[middle]];
+                int comparison = event.dateTime().compareTo(lastDateTime);
+                if (comparison < 0 || (comparison == 0 && event.id() <= lastEventId)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+        }
+
+        List<ResponseEventDTO> page = new ArrayList<>(Math.min(limit, eventsByDateTime.length - low));
+        for (int i = low; i < eventsByDateTime.length && page.size() < limit; i++) {
+            page.add(events[eventsByDateTime[i]]);
+        }
+        return page;
+    }
+
+    public CatalogSnapshot withProduct(ResponseProductDTO product) {
+        int index = Arrays.binarySearch(productIds, product.id());
+        if (index >= 0) {
+            ResponseProductDTO[] updatedProducts = products.clone();
+            updatedProducts[index] = product.withMainImageUrl(mainImageUrlOf(productImages[index]));
+            return new CatalogSnapshot(productIds, updatedProducts, productImages, eventIds, events, eventsByDateTime);
+        }
+
+        int insertion = insertionPoint(index);
+        return new CatalogSnapshot(
+                insert(productIds, insertion, product.id()),
+                insert(products, insertion, product.withMainImageUrl(null)),
+                insert(productImages, insertion, NO_IMAGES),
+                eventIds, events, eventsByDateTime
+        );
+    }
+
+    public CatalogSnapshot withoutProduct(long productId) {
+        int index = Arrays.binarySearch(productIds, productId);
+        if (index < 0) {
+            return this;
+        }
+
+        return new CatalogSnapshot(remove(productIds, index), remove(products, index), remove(productImages, index),
+                eventIds, events, eventsByDateTime);
+    }
+
+    public CatalogSnapshot withProductImage(long productId, ResponseProductImageDTO image) {
+        int index = Arrays.binarySearch(productIds, productId);
+        if (index < 0) {
+            return this;
+        }
+
+        ResponseProductImageDTO[] images = Arrays.stream(productImages[index])
+                .filter(existingImage -> !existingImage.id().equals(image.id()))
+                .toArray(ResponseProductImageDTO[]::new);
+        return withProductImages(index, sortImages(insert(images, images.length, image)));
+    }
+
+    public CatalogSnapshot withoutProductImage(long productId, long imageId) {
+        int index = Arrays.binarySearch(productIds, productId);
+        if (index < 0) {
+            return this;
+        }
+
+        ResponseProductImageDTO[] images = Arrays.stream(productImages[index])
+                .filter(existingImage -> existingImage.id() != imageId)
+                .toArray(ResponseProductImageDTO[]::new);
+        return images.length == productImages[index].length ? this : withProductImages(index, images);
+    }
+
+    private CatalogSnapshot withProductImages(int index, ResponseProductImageDTO[] images) {
+        ResponseProductImageDTO[][] updatedImages = productImages.clone();
+        updatedImages[index] = images;
+        ResponseProductDTO[] updatedProducts = products.clone();
+        updatedProducts[index] = products[index].withMainImageUrl(mainImageUrlOf(images));
+
+        return new CatalogSnapshot(productIds, updatedProducts, updatedImages, eventIds, events, eventsByDateTime);
+    }
+
+    public CatalogSnapshot withEvent(ResponseEventDTO event) {
+        int index = Arrays.binarySearch(eventIds, event.id());
+        if (index >= 0) {
+            ResponseEventDTO[] updatedEvents = events.clone();
+            updatedEvents[index] = event;
+            return new CatalogSnapshot(productIds, products, productImages, eventIds, updatedEvents, orderByDateTime(updatedEvents));
+        }
+
+        int insertion = insertionPoint(index);
+        ResponseEventDTO[] updatedEvents = insert(events, insertion, event);
+        return new CatalogSnapshot(productIds, products, productImages,
+                insert(eventIds, insertion, event.id()), updatedEvents, orderByDateTime(updatedEvents));
+    }
+
+    public CatalogSnapshot withoutEvent(long eventId) {
+        int index = Arrays.binarySearch(eventIds, eventId);
+        if (index < 0) {
+            return this;
+        }
+
+        ResponseEventDTO[] updatedEvents = remove(events, index);
+        return new CatalogSnapshot(productIds, products, productImages,
+                remove(eventIds, index), updatedEvents, orderByDateTime(updatedEvents));
+    }
+
+    private static <T> List<T> slice(T[] values, long offset, int limit, boolean descending) {
+        int from = (int) Math.min(offset, values.length);
+        int to = (int) Math.min((long) from + limit, values.length);
+        if (!descending) {
+            return Collections.unmodifiableList(Arrays.asList(values).subList(from, to));
+        }
+
+        List<T> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(values[values.length - 1 - i]);
+        }
+        return page;
+    }
+
+    private static ResponseProductImageDTO[] sortImages(ResponseProductImageDTO[] images) {
+        Arrays.sort(images, IMAGE_ORDER);
+        return images;
+    }
+
+    private static String mainImageUrlOf(ResponseProductImageDTO[] images) {
+        return images.length > 0 && Boolean.TRUE.equals(images[0].isMainImage()) ? images[0].imageUrl() : null;
+    }
+
+    private static int[] orderByDateTime(ResponseEventDTO[] events) {
+        return IntStream.range(0, events.length)
+                .boxed()
+                .sorted(Comparator.comparing((Integer index) -> events[index].dateTime()).thenComparing(index -> events[index].id()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int insertionPoint(int binarySearchResult) {
+        return binarySearchResult >= 0 ? binarySearchResult : -binarySearchResult - 1;
+    }
+
+    private static long[] insert(long[] values, int index, long value) {
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        result[index] = value;
+        return result;
+    }
+
+    private static <T> T[] insert(T[] values, int index, T value) {
+        T[] result = Arrays.copyOf(values, values.length + 1);
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        result[index] = value;
+        return result;
+    }
+
+    private static long[] remove(long[] values, int index) {
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    private static <T> T[] remove(T[] values, int index) {
+        T[] result = Arrays.copyOf(values, values.length - 1);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+}
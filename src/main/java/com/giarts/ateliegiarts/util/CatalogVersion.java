@@ -0,0 +1,32 @@
+package com.giarts.ateliegiarts.util;
+
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CatalogVersion {
+    private final String bootId = UUID.randomUUID().toString();
+    private final Map<ECatalogAggregate, AtomicLong> versions = new EnumMap<>(ECatalogAggregate.class);
+
+    public CatalogVersion() {
+        Arrays.stream(ECatalogAggregate.values()).forEach(aggregate -> versions.put(aggregate, new AtomicLong()));
+    }
+
+    public long current(ECatalogAggregate aggregate) {
+        return versions.get(aggregate).get();
+    }
+
+    public void increment(ECatalogAggregate aggregate) {
+        versions.get(aggregate).incrementAndGet();
+    }
+
+    public String eTag(ECatalogAggregate aggregate) {
+        return ETagGenerator.generate(aggregate.name(), bootId, current(aggregate));
+    }
+}
@@ -0,0 +1,72 @@
+package com.giarts.ateliegiarts.util;
+
+import com.giarts.ateliegiarts.exception.InvalidCursorException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+@Component
+public class CursorCodec {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String FIELD_SEPARATOR = "|";
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final SecretKeySpec signingKey;
+
+    public CursorCodec(@Value("${api.pagination.cursor.secret}") String secret) {
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    public String encode(String scope, String... values) {
+        byte[] payload = (scope + FIELD_SEPARATOR + String.join(FIELD_SEPARATOR, values)).getBytes(StandardCharsets.UTF_8);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    public List<String> decode(String cursor, String scope, int expectedValues) {
+        int separatorIndex = cursor.indexOf('.');
+        if (separatorIndex < 0) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            payload = decoder.decode(cursor.substring(0, separatorIndex));
+            signature = decoder.decode(cursor.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            throw new InvalidCursorException("Cursor signature does not match");
+        }
+
+        List<String> fields = Arrays.asList(new String(payload, StandardCharsets.UTF_8).split("\\|", -1));
+        if (fields.size() != expectedValues + 1 || !fields.get(0).equals(scope)) {
+            throw new InvalidCursorException("Cursor does not belong to this listing");
+        }
+
+        return fields.subList(1, fields.size());
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.giarts.ateliegiarts.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+public class ETagGenerator {
+    private static final int ETAG_BYTES = 16;
+
+    public static String generate(String resource, Object... versionParts) {
+        String version = Arrays.stream(versionParts).map(String::valueOf).collect(Collectors.joining(":", resource + ":", ""));
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
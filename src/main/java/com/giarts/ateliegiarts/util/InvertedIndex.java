@@ -0,0 +1,130 @@
+package com.giarts.ateliegiarts.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InvertedIndex<T> {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument<T>> documents = new HashMap<>();
+    private long totalTerms;
+
+    public void put(Long documentId, List<String> terms, T value) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        terms.forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(documentId, frequency));
+            documents.put(documentId, new IndexedDocument<>(value, terms.size(), termFrequencies.keySet()));
+            totalTerms += terms.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalTerms = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchHit<T>> search(List<String> queryTerms, int limit) {
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalTerms / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String term : new LinkedHashSet<>(queryTerms)) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((documentId, frequency) -> {
+                    double lengthNorm = K1 * (1 - B + B * documents.get(documentId).length() / averageLength);
+                    scores.merge(documentId, idf * frequency * (K1 + 1) / (frequency + lengthNorm), Double::sum);
+                });
+            }
+
+            PriorityQueue<Map.Entry<Long, Double>> topHits = new PriorityQueue<>(Map.Entry.comparingByValue());
+            for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                topHits.offer(score);
+                if (topHits.size() > limit) {
+                    topHits.poll();
+                }
+            }
+
+            List<SearchHit<T>> hits = new ArrayList<>(topHits.size());
+            topHits.forEach(hit -> hits.add(new SearchHit<>(documents.get(hit.getKey()).value(), hit.getValue())));
+            hits.sort(Comparator.comparingDouble(SearchHit<T>::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeDocument(Long documentId) {
+        IndexedDocument<T> document = documents.remove(documentId);
+        if (document == null) {
+            return;
+        }
+
+        totalTerms -= document.length();
+        for (String term : document.terms()) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            termPostings.remove(documentId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    public record SearchHit<T>(T value, double score) {
+    }
+
+    private record IndexedDocument<T>(T value, int length, Iterable<String> terms) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.giarts.ateliegiarts.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class PortugueseTextAnalyzer {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^a-z0-9]+");
+    private static final int MIN_STEMMING_LENGTH = 4;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "ao", "aos", "as", "com", "da", "das", "de", "do", "dos", "e", "em", "na", "nas", "no", "nos",
+            "o", "os", "ou", "para", "pela", "pelas", "pelo", "pelos", "por", "sem", "um", "uma", "umas", "uns"
+    );
+
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return TOKEN_SEPARATOR.matcher(fold(text)).replaceAll(" ").strip();
+    }
+
+    public static boolean isStopWord(String token) {
+        return STOP_WORDS.contains(token);
+    }
+
+    public static List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(TOKEN_SEPARATOR.split(fold(text)))
+                .filter(token -> !token.isEmpty() && !STOP_WORDS.contains(token))
+                .map(PortugueseTextAnalyzer::stem)
+                .toList();
+    }
+
+    public static String stem(String token) {
+        if (token.length() < MIN_STEMMING_LENGTH) {
+            return token;
+        }
+
+        if (token.endsWith("oes") || token.endsWith("aes")) {
+            return token.substring(0, token.length() - 3) + "ao";
+        }
+        if (token.endsWith("ais")) {
+            return token.substring(0, token.length() - 3) + "al";
+        }
+        if (token.endsWith("eis")) {
+            return token.substring(0, token.length() - 3) + "el";
+        }
+        if (token.endsWith("ns")) {
+            return token.substring(0, token.length() - 2) + "m";
+        }
+        if (token.endsWith("res") || token.endsWith("zes")) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("s")) {
+            return token.substring(0, token.length() - 1);
+        }
+
+        return token;
+    }
+}
@@ -0,0 +1,224 @@
+package com.giarts.ateliegiarts.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class RadixTrie<T> {
+    private final int topK;
+    private final Comparator<T> order;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node<T> root = new Node<>("");
+
+    public RadixTrie(int topK, Comparator<T> order) {
+        this.topK = topK;
+        this.order = order;
+    }
+
+    public void put(String key, T value) {
+        lock.writeLock().lock();
+        try {
+            List<Node<T>> path = new ArrayList<>();
+            Node<T> node = root;
+            path.add(node);
+            int index = 0;
+
+            while (index < key.length()) {
+                Node<T> child = node.children.get(key.charAt(index));
+                if (child == null) {
+                    child = new Node<>(key.substring(index));
+                    node.children.put(key.charAt(index), child);
+                    node = child;
+                    path.add(node);
+                    break;
+                }
+
+                int common = commonPrefixLength(child.label, key, index);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+
+                node = child;
+                path.add(node);
+                index += common;
+            }
+
+            node.values.add(value);
+            refreshTopValues(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key, T value) {
+        lock.writeLock().lock();
+        try {
+            List<Node<T>> path = new ArrayList<>();
+            Node<T> node = root;
+            path.add(node);
+            int index = 0;
+
+            while (index < key.length()) {
+                Node<T> child = node.children.get(key.charAt(index));
+                if (child == null || !key.startsWith(child.label, index)) {
+                    return;
+                }
+
+                node = child;
+                path.add(node);
+                index += child.label.length();
+            }
+
+            if (!node.values.remove(value)) {
+                return;
+            }
+
+            for (int i = path.size() - 1; i > 0; i--) {
+                Node<T> current = path.get(i);
+                if (current.values.isEmpty() && current.children.isEmpty()) {
+                    path.get(i - 1).children.remove(current.label.charAt(0));
+                }
+            }
+            refreshTopValues(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = new Node<>("");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<T> findByPrefix(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Position<T> position = new Position<>(root, 0);
+            for (int i = 0; i < prefix.length() && position != null; i++) {
+                position = position.next(prefix.charAt(i));
+            }
+
+            return position == null ? List.of() : limit(position.node.topValues, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<T> findByPrefixWithinOneEdit(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Set<Node<T>> reachedNodes = new LinkedHashSet<>();
+            collectWithinEdits(new Position<>(root, 0), prefix, 0, 1, reachedNodes);
+
+            return limit(mergeTopValues(reachedNodes), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectWithinEdits(Position<T> position, String prefix, int index, int edits, Set<Node<T>> reachedNodes) {
+        if (index == prefix.length()) {
+            reachedNodes.add(position.node);
+            return;
+        }
+
+        char expected = prefix.charAt(index);
+        for (Map.Entry<Character, Position<T>> transition : position.transitions().entrySet()) {
+            if (transition.getKey() == expected) {
+                collectWithinEdits(transition.getValue(), prefix, index + 1, edits, reachedNodes);
+            } else if (edits > 0) {
+                collectWithinEdits(transition.getValue(), prefix, index + 1, edits - 1, reachedNodes);
+            }
+
+            if (edits > 0) {
+                collectWithinEdits(transition.getValue(), prefix, index, edits - 1, reachedNodes);
+            }
+        }
+
+        if (edits > 0) {
+            collectWithinEdits(position, prefix, index + 1, edits - 1, reachedNodes);
+        }
+    }
+
+    private Node<T> split(Node<T> parent, Node<T> child, int common) {
+        Node<T> middle = new Node<>(child.label.substring(0, common));
+        child.label = child.label.substring(common);
+        middle.children.put(child.label.charAt(0), child);
+        middle.topValues = child.topValues;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private void refreshTopValues(List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            List<T> candidates = new ArrayList<>(node.values);
+            node.children.values().forEach(child -> candidates.addAll(child.topValues));
+            node.topValues = limit(distinctSorted(candidates), topK);
+        }
+    }
+
+    private List<T> mergeTopValues(Set<Node<T>> nodes) {
+        List<T> candidates = new ArrayList<>();
+        nodes.forEach(node -> candidates.addAll(node.topValues));
+        return distinctSorted(candidates);
+    }
+
+    private List<T> distinctSorted(List<T> candidates) {
+        return candidates.stream().distinct().sorted(order).toList();
+    }
+
+    private static <T> List<T> limit(List<T> values, int limit) {
+        return values.size() <= limit ? values : List.copyOf(values.subList(0, limit));
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length() && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node<T> {
+        private String label;
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+        private List<T> topValues = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Position<T>(Node<T> node, int offset) {
+        private Position<T> next(char character) {
+            if (offset < node.label.length()) {
+                return node.label.charAt(offset) == character ? new Position<>(node, offset + 1) : null;
+            }
+
+            Node<T> child = node.children.get(character);
+            return child == null ? null : new Position<>(child, 1);
+        }
+
+        private Map<Character, Position<T>> transitions() {
+            if (offset < node.label.length()) {
+                return Map.of(node.label.charAt(offset), new Position<>(node, offset + 1));
+            }
+
+            Map<Character, Position<T>> transitions = new HashMap<>();
+            node.children.forEach((character, child) -> transitions.put(character, new Position<>(child, 1)));
+            return transitions;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.giarts.ateliegiarts.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class SingleFlight {
+    private static final String METRIC_NAME = "catalog.lookups";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<FlightKey, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String lookup, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(lookup, key);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(flightKey, call);
+        if (inFlightCall != null) {
+            meterRegistry.counter(METRIC_NAME, "lookup", lookup, "outcome", "coalesced").increment();
+            return (T) await(inFlightCall);
+        }
+
+        meterRegistry.counter(METRIC_NAME, "lookup", lookup, "outcome", "executed").increment();
+        try {
+            T value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightCalls.remove(flightKey, call);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> inFlightCall) {
+        try {
+            return inFlightCall.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private record FlightKey(String lookup, Object key) {
+    }
+}
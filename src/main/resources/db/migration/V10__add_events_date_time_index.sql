@@ -0,0 +1 @@
+CREATE INDEX idx_events_date_time_id ON events (date_time, id);
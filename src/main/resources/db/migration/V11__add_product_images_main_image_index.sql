@@ -0,0 +1 @@
+CREATE INDEX idx_product_images_product_id_main ON product_images (product_id, is_main_image);
@@ -0,0 +1,7 @@
+CREATE INDEX idx_products_name_id ON products (name, id);
+CREATE INDEX idx_products_created_at_id ON products (created_at, id);
+CREATE INDEX idx_products_updated_at_id ON products (updated_at, id);
+CREATE INDEX idx_products_product_type ON products (product_type);
+CREATE INDEX idx_products_product_type_name_id ON products (product_type, name, id);
+CREATE INDEX idx_products_product_type_created_at_id ON products (product_type, created_at, id);
+CREATE INDEX idx_products_product_type_updated_at_id ON products (product_type, updated_at, id);
@@ -0,0 +1,15 @@
+CREATE TABLE refresh_tokens (
+	id BIGINT PRIMARY KEY AUTO_INCREMENT,
+	token_hash CHAR(64) UNIQUE NOT NULL,
+	family_id CHAR(36) NOT NULL,
+	user_id BIGINT NOT NULL,
+	token_version INT NOT NULL,
+	revoked BIT(1) NOT NULL,
+	expires_at DATETIME NOT NULL,
+	created_at DATETIME DEFAULT NULL,
+	updated_at DATETIME DEFAULT NULL,
+
+	INDEX idx_refresh_tokens_family_id (family_id),
+	INDEX idx_refresh_tokens_expires_at (expires_at),
+	CONSTRAINT fk_refresh_token_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
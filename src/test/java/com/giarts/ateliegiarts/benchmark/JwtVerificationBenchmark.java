@@ -0,0 +1,82 @@
+package com.giarts.ateliegiarts.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.giarts.ateliegiarts.enums.ESigningAlgorithm;
+import com.giarts.ateliegiarts.enums.EUserRole;
+import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.model.UserRole;
+import com.giarts.ateliegiarts.security.JwtSigningKeyRing;
+import com.giarts.ateliegiarts.security.JwtTokenService;
+import com.giarts.ateliegiarts.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded throughput of bearer token verification, i.e. verifications per second per core.
+ * <p>
+ * Run with {@code mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test}
+ * followed by {@code java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main JwtVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtVerificationBenchmark {
+    private static final String SECRET_KEY = "secret-key-for-benchmarks";
+    private static final String ISSUER = "giarts-api";
+
+    private JwtTokenService jwtTokenService;
+    private JWTVerifier sharedVerifier;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtTokenService = new JwtTokenService(new JwtSigningKeyRing(ESigningAlgorithm.HS256, SECRET_KEY, Duration.ofHours(4)),
+                Duration.ofHours(4), 10_000, new SimpleMeterRegistry());
+        sharedVerifier = JWT.require(Algorithm.HMAC256(SECRET_KEY)).withIssuer(ISSUER).build();
+
+        User user = User.builder()
+                .id(1L)
+                .name("User")
+                .email("user@email.com")
+                .userRoles(Set.of(new UserRole(1L, EUserRole.ROLE_CUSTOMER)))
+                .build();
+        token = jwtTokenService.generateToken(new UserDetailsImpl(user));
+    }
+
+    @Benchmark
+    public String verifierBuiltPerCall() {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET_KEY);
+        return JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String sharedVerifier() {
+        return sharedVerifier.verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String jwtTokenService() {
+        return jwtTokenService.getSubjectFromToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
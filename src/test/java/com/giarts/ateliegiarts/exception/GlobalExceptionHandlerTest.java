@@ -0,0 +1,37 @@
+package com.giarts.ateliegiarts.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GlobalExceptionHandlerTest {
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+
+    @Nested
+    class handlePasswordHashingUnavailableException {
+        @Test
+        @DisplayName("Should answer 503 with the exception retry-after in seconds")
+        void shouldAnswerServiceUnavailableWithRetryAfter() {
+            PasswordHashingUnavailableException exception = new PasswordHashingUnavailableException(
+                    "Too many authentication requests, try again later", Duration.ofSeconds(7));
+
+            ResponseEntity<ApiError> response = globalExceptionHandler.handlePasswordHashingUnavailableException(exception,
+                    new ServletWebRequest(new MockHttpServletRequest("POST", "/auth/login")));
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("7", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertNotNull(response.getBody());
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getBody().status());
+            assertEquals("Too many authentication requests, try again later", response.getBody().message());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.giarts.ateliegiarts.filter;
+
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogResponseCacheFilterTest {
+    private static final String PRODUCT_BODY = "{\"id\":1,\"name\":\"Product\"}";
+
+    private final AtomicInteger chainInvocations = new AtomicInteger();
+
+    private CatalogVersion catalogVersion;
+    private CatalogResponseCacheFilter catalogResponseCacheFilter;
+
+    @BeforeEach
+    void setup() {
+        catalogVersion = new CatalogVersion();
+        catalogResponseCacheFilter = new CatalogResponseCacheFilter(catalogVersion, DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+        chainInvocations.set(0);
+    }
+
+    @Nested
+    class doFilter {
+        @Test
+        @DisplayName("Should serve a repeated catalog request from the cache without running the chain")
+        void shouldServeRepeatedRequestFromCache() throws Exception {
+            MockHttpServletResponse firstResponse = perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+            MockHttpServletResponse secondResponse = perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+
+            assertEquals(1, chainInvocations.get());
+            assertAll(
+                    () -> assertEquals(PRODUCT_BODY, firstResponse.getContentAsString()),
+                    () -> assertEquals(PRODUCT_BODY, secondResponse.getContentAsString()),
+                    () -> assertEquals("\"v1\"", secondResponse.getHeader(HttpHeaders.ETAG)),
+                    () -> assertEquals(HttpHeaders.ACCEPT_ENCODING, secondResponse.getHeader(HttpHeaders.VARY))
+            );
+        }
+
+        @Test
+        @DisplayName("Should serve the pre-compressed body when the client accepts gzip")
+        void shouldServeGzipBodyWhenClientAcceptsGzip() throws Exception {
+            perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+
+            MockHttpServletRequest request = createRequest("/products/1");
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+            MockHttpServletResponse response = perform(request, jsonChain(HttpServletResponse.SC_OK));
+
+            assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(PRODUCT_BODY, gunzip(response.getContentAsByteArray()));
+        }
+
+        @Test
+        @DisplayName("Should serve the identity body when the client refuses gzip with a zero quality")
+        void shouldServeIdentityBodyWhenClientRefusesGzip() throws Exception {
+            perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+
+            MockHttpServletRequest request = createRequest("/products/1");
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0");
+            MockHttpServletResponse response = perform(request, jsonChain(HttpServletResponse.SC_OK));
+
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(PRODUCT_BODY, response.getContentAsString());
+        }
+
+        @Test
+        @DisplayName("Should serve the pre-compressed body when the client accepts any encoding")
+        void shouldServeGzipBodyWhenClientAcceptsAnyEncoding() throws Exception {
+            perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+
+            MockHttpServletRequest request = createRequest("/products/1");
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "identity;q=0.5, *;q=0.8");
+            MockHttpServletResponse response = perform(request, jsonChain(HttpServletResponse.SC_OK));
+
+            assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(PRODUCT_BODY, gunzip(response.getContentAsByteArray()));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 from the cache when the ETag still matches")
+        void shouldAnswerNotModifiedFromCache() throws Exception {
+            perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+
+            MockHttpServletRequest request = createRequest("/products/1");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+            MockHttpServletResponse response = perform(request, jsonChain(HttpServletResponse.SC_OK));
+
+            assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+            assertEquals(0, response.getContentLength());
+            assertEquals(1, chainInvocations.get());
+        }
+
+        @Test
+        @DisplayName("Should keep query parameters order independent in the cache key")
+        void shouldIgnoreQueryParameterOrder() throws Exception {
+            MockHttpServletRequest firstRequest = createRequest("/products");
+            firstRequest.addParameter("page", "0");
+            firstRequest.addParameter("size", "10");
+            MockHttpServletRequest secondRequest = createRequest("/products");
+            secondRequest.addParameter("size", "10");
+            secondRequest.addParameter("page", "0");
+
+            perform(firstRequest, jsonChain(HttpServletResponse.SC_OK));
+            perform(secondRequest, jsonChain(HttpServletResponse.SC_OK));
+
+            assertEquals(1, chainInvocations.get());
+        }
+
+        @Test
+        @DisplayName("Should run the chain again after the catalog version changes")
+        void shouldMissAfterCatalogVersionChanges() throws Exception {
+            perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+            catalogVersion.increment(ECatalogAggregate.PRODUCTS);
+            perform(createRequest("/products/1"), jsonChain(HttpServletResponse.SC_OK));
+
+            perform(createRequest("/events/1"), jsonChain(HttpServletResponse.SC_OK));
+            catalogVersion.increment(ECatalogAggregate.PRODUCTS);
+            perform(createRequest("/events/1"), jsonChain(HttpServletResponse.SC_OK));
+
+            assertEquals(3, chainInvocations.get());
+        }
+
+        @Test
+        @DisplayName("Should not cache responses that are not successful")
+        void shouldNotCacheUnsuccessfulResponses() throws Exception {
+            perform(createRequest("/products/99"), jsonChain(HttpServletResponse.SC_NOT_FOUND));
+            MockHttpServletResponse response = perform(createRequest("/products/99"), jsonChain(HttpServletResponse.SC_NOT_FOUND));
+
+            assertEquals(2, chainInvocations.get());
+            assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache for routes outside the public catalog")
+        void shouldBypassCacheForOtherRoutes() throws Exception {
+            perform(createRequest("/products/search"), jsonChain(HttpServletResponse.SC_OK));
+            perform(createRequest("/products/search"), jsonChain(HttpServletResponse.SC_OK));
+
+            MockHttpServletRequest postRequest = createRequest("/products");
+            postRequest.setMethod("POST");
+            perform(postRequest, jsonChain(HttpServletResponse.SC_OK));
+
+            assertEquals(3, chainInvocations.get());
+        }
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain filterChain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        catalogResponseCacheFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+
+    private FilterChain jsonChain(int status) {
+        return (request, response) -> {
+            chainInvocations.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.setHeader(HttpHeaders.ETAG, "\"v1\"");
+            httpResponse.getOutputStream().write(PRODUCT_BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletRequest createRequest(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api" + path);
+        request.setContextPath("/api");
+        return request;
+    }
+
+    private String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.giarts.ateliegiarts.service.integration;
+
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.repository.UserRepository;
+import com.giarts.ateliegiarts.service.RefreshTokenService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.flyway.enabled=false")
+@ActiveProfiles("test")
+public class RefreshTokenServiceIntegrationTest {
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long productId;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        Product product = new Product();
+        product.setName("product");
+        product.setDescription("description");
+        product.setProductType(EProductType.BOLSA);
+        productId = productRepository.save(product).getId();
+
+        user = userRepository.save(User.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@email.com")
+                .password("password")
+                .build());
+
+        entityManagerFactory.getCache().evictAll();
+        productRepository.findById(productId);
+        assertTrue(entityManagerFactory.getCache().contains(Product.class, productId));
+    }
+
+    @Test
+    @DisplayName("Should keep the catalog cache regions when a refresh token is rotated")
+    void shouldKeepCatalogCacheRegionsWhenRefreshTokenIsRotated() {
+        String refreshToken = refreshTokenService.createRefreshToken(user);
+
+        refreshTokenService.consumeRefreshToken(refreshToken);
+        refreshTokenService.deleteExpiredRefreshTokens();
+
+        assertTrue(entityManagerFactory.getCache().contains(Product.class, productId));
+    }
+}
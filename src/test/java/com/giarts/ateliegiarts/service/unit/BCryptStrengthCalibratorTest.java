@@ -0,0 +1,41 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.security.BCryptStrengthCalibrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BCryptStrengthCalibratorTest {
+    private static final long TARGET_NANOS = Duration.ofMillis(50).toNanos();
+
+    @Nested
+    class calibrate {
+        @Test
+        @DisplayName("Should raise strength while the doubled hash time stays within the budget")
+        void shouldRaiseStrengthWithinBudget() {
+            long minimumStrengthNanos = Duration.ofMillis(6).toNanos();
+
+            assertEquals(13, BCryptStrengthCalibrator.calibrate(TARGET_NANOS, minimumStrengthNanos, 10, 16));
+        }
+
+        @Test
+        @DisplayName("Should keep the minimum strength when hashing is already slower than the budget")
+        void shouldKeepMinimumStrengthOnSlowHardware() {
+            long minimumStrengthNanos = Duration.ofMillis(120).toNanos();
+
+            assertEquals(10, BCryptStrengthCalibrator.calibrate(TARGET_NANOS, minimumStrengthNanos, 10, 16));
+        }
+
+        @Test
+        @DisplayName("Should not exceed the maximum strength on fast hardware")
+        void shouldNotExceedMaximumStrength() {
+            long minimumStrengthNanos = Duration.ofMillis(1).toNanos();
+
+            assertEquals(12, BCryptStrengthCalibrator.calibrate(TARGET_NANOS, minimumStrengthNanos, 10, 12));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.security.BoundedPasswordEncoder;
+import com.giarts.ateliegiarts.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BoundedPasswordEncoderTest {
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(5), meterRegistry);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, passwordHashingExecutor);
+    }
+
+    @AfterEach
+    void shutdown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Nested
+    class encode {
+        @Test
+        @DisplayName("Should encode through the hashing executor under the encode operation")
+        void shouldEncodeThroughHashingExecutor() {
+            when(delegate.encode("password")).thenReturn("hash");
+
+            assertEquals("hash", boundedPasswordEncoder.encode("password"));
+
+            assertEquals(1, meterRegistry.get("auth.password.hashing.duration").tag("operation", "encode").timer().count());
+        }
+    }
+
+    @Nested
+    class matches {
+        @Test
+        @DisplayName("Should verify through the hashing executor under the matches operation")
+        void shouldMatchThroughHashingExecutor() {
+            when(delegate.matches("password", "hash")).thenReturn(true);
+
+            assertTrue(boundedPasswordEncoder.matches("password", "hash"));
+
+            assertEquals(1, meterRegistry.get("auth.password.hashing.duration").tag("operation", "matches").timer().count());
+        }
+    }
+
+    @Nested
+    class upgradeEncoding {
+        @Test
+        @DisplayName("Should check upgrades on the caller thread without using the hashing executor")
+        void shouldCheckUpgradesWithoutHashingExecutor() {
+            when(delegate.upgradeEncoding("hash")).thenReturn(true);
+
+            assertTrue(boundedPasswordEncoder.upgradeEncoding("hash"));
+
+            assertNull(meterRegistry.find("auth.password.hashing.duration").timer());
+        }
+    }
+}
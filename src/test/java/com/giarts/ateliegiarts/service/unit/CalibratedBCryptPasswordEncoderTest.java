@@ -0,0 +1,42 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.security.CalibratedBCryptPasswordEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CalibratedBCryptPasswordEncoderTest {
+    private final CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5);
+
+    @Nested
+    class upgradeEncoding {
+        @Test
+        @DisplayName("Should not rehash passwords already encoded with the calibrated strength")
+        void shouldNotRehashPasswordsWithCalibratedStrength() {
+            assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password")));
+        }
+
+        @Test
+        @DisplayName("Should rehash passwords encoded with a lower strength")
+        void shouldRehashPasswordsWithLowerStrength() {
+            assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        }
+
+        @Test
+        @DisplayName("Should rehash passwords encoded with a higher strength")
+        void shouldRehashPasswordsWithHigherStrength() {
+            assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+        }
+
+        @Test
+        @DisplayName("Should not rehash values that are not BCrypt hashes")
+        void shouldNotRehashInvalidHashes() {
+            assertFalse(passwordEncoder.upgradeEncoding("plain-text"));
+            assertFalse(passwordEncoder.upgradeEncoding(null));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.util.CatalogListingCache;
+import com.giarts.ateliegiarts.util.CatalogListingCache.ListingKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogListingCacheTest {
+    private final AtomicInteger listingQueries = new AtomicInteger();
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MultiIdentifierLoadAccess<Product> multiLoadAccess;
+
+    private CatalogListingCache catalogListingCache;
+
+    @BeforeEach
+    void setup() {
+        catalogListingCache = new CatalogListingCache(entityManagerFactory, 100, new SimpleMeterRegistry());
+        listingQueries.set(0);
+    }
+
+    @Nested
+    class findPage {
+        @Test
+        @DisplayName("Should keep the id list and total of a page and resolve the ids in order on the next request")
+        void shouldResolveCachedIdsInOrder() {
+            Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "name", "id"));
+            Product firstProduct = createProduct(7L, "product 7");
+            Product secondProduct = createProduct(3L, "product 3");
+            ListingKey key = ListingKey.of(ECatalogAggregate.PRODUCTS, "paginated", pageable);
+
+            mockMultiLoad(List.of(7L, 3L), firstProduct, secondProduct);
+
+            findPage(key, 0, new PageImpl<>(List.of(firstProduct, secondProduct), pageable, 12));
+            Page<Product> cachedPage = findPage(key, 0, new PageImpl<>(List.of(), pageable, 0));
+
+            assertEquals(1, listingQueries.get());
+            assertAll(
+                    () -> assertEquals(List.of(firstProduct, secondProduct), cachedPage.getContent()),
+                    () -> assertEquals(12, cachedPage.getTotalElements()),
+                    () -> assertEquals(pageable, cachedPage.getPageable())
+            );
+        }
+
+        @Test
+        @DisplayName("Should run the listing query again once the aggregate version changes")
+        void shouldReloadWhenVersionChanges() {
+            Pageable pageable = PageRequest.of(0, 2);
+            ListingKey key = ListingKey.of(ECatalogAggregate.PRODUCTS, "paginated", pageable);
+            Page<Product> page = new PageImpl<>(List.of(createProduct(1L, "product 1")), pageable, 1);
+
+            findPage(key, 0, page);
+            findPage(key, 1, page);
+
+            assertEquals(2, listingQueries.get());
+            verifyNoInteractions(entityManagerFactory);
+        }
+
+        @Test
+        @DisplayName("Should run the listing query again when a cached id no longer resolves to an entity")
+        void shouldReloadWhenCachedIdIsMissing() {
+            Pageable pageable = PageRequest.of(0, 2);
+            ListingKey key = ListingKey.of(ECatalogAggregate.PRODUCTS, "paginated", pageable);
+            Product product = createProduct(1L, "product 1");
+
+            mockMultiLoad(List.of(1L), (Product) null);
+
+            findPage(key, 0, new PageImpl<>(List.of(product), pageable, 1));
+            Page<Product> reloadedPage = findPage(key, 0, new PageImpl<>(List.of(product), pageable, 1));
+
+            assertEquals(2, listingQueries.get());
+            assertEquals(List.of(product), reloadedPage.getContent());
+        }
+    }
+
+    @Nested
+    class findSlice {
+        @Test
+        @DisplayName("Should keep separate entries for each filter and keep hasNext without a total")
+        void shouldKeyEntriesByFilter() {
+            Pageable pageable = PageRequest.of(0, 1);
+            Product product = createProduct(5L, "product 5");
+            ListingKey bagsKey = ListingKey.of(ECatalogAggregate.PRODUCTS, "filtered-sliced", pageable, EProductType.BOLSA, null);
+            ListingKey rugsKey = ListingKey.of(ECatalogAggregate.PRODUCTS, "filtered-sliced", pageable, EProductType.TAPETE, null);
+
+            mockMultiLoad(List.of(5L), product);
+
+            findSlice(bagsKey, new SliceImpl<>(List.of(product), pageable, true));
+            findSlice(rugsKey, new SliceImpl<>(List.of(), pageable, false));
+            Slice<Product> cachedSlice = findSlice(bagsKey, new SliceImpl<>(List.of(), pageable, false));
+
+            assertEquals(2, listingQueries.get());
+            assertFalse(cachedSlice instanceof Page);
+            assertTrue(cachedSlice.hasNext());
+            assertEquals(List.of(product), cachedSlice.getContent());
+        }
+    }
+
+    private Page<Product> findPage(ListingKey key, long version, Page<Product> databasePage) {
+        return catalogListingCache.findPage(key, version, Product.class, Product::getId, () -> {
+            listingQueries.incrementAndGet();
+            return databasePage;
+        });
+    }
+
+    private Slice<Product> findSlice(ListingKey key, Slice<Product> databaseSlice) {
+        return catalogListingCache.findSlice(key, 0, Product.class, Product::getId, () -> {
+            listingQueries.incrementAndGet();
+            return databaseSlice;
+        });
+    }
+
+    private void mockMultiLoad(List<Long> ids, Product... products) {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.byMultipleIds(Product.class)).thenReturn(multiLoadAccess);
+        when(multiLoadAccess.with(CacheMode.NORMAL)).thenReturn(multiLoadAccess);
+        when(multiLoadAccess.multiLoad(ids)).thenReturn(Arrays.asList(products));
+    }
+
+    private Product createProduct(Long id, String name) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .productType(EProductType.BOLSA)
+                .build();
+    }
+}
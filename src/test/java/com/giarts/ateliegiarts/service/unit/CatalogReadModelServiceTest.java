@@ -0,0 +1,175 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.dto.event.ResponseEventDTO;
+import com.giarts.ateliegiarts.dto.product.ProductWithImageDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDetailDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductImageDTO;
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.model.Event;
+import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.model.ProductImage;
+import com.giarts.ateliegiarts.repository.EventRepository;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.service.CatalogReadModelService;
+import com.giarts.ateliegiarts.util.CatalogSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogReadModelServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Nested
+    class refreshSnapshot {
+        @Test
+        @DisplayName("Should not load the catalog when the read model is disabled")
+        void shouldNotLoadCatalogWhenDisabled() {
+            CatalogReadModelService catalogReadModelService = new CatalogReadModelService(productRepository, eventRepository, false);
+
+            catalogReadModelService.loadSnapshot();
+            catalogReadModelService.putProduct(createProductDTO(1L, "product"));
+
+            assertNull(catalogReadModelService.getSnapshot());
+
+            verifyNoInteractions(productRepository, eventRepository);
+        }
+
+        @Test
+        @DisplayName("Should load products with their images and events into the snapshot")
+        void shouldLoadProductsImagesAndEvents() {
+            Product product = createProduct(1L, "product");
+            Product productWithoutImages = createProduct(2L, "product without images");
+
+            when(productRepository.findAllProductsWithImages()).thenReturn(List.of(
+                    new ProductWithImageDTO(product, createProductImage(11L, product, true)),
+                    new ProductWithImageDTO(product, createProductImage(10L, product, false)),
+                    new ProductWithImageDTO(productWithoutImages, null)
+            ));
+            when(eventRepository.findAll()).thenReturn(List.of(createEvent(1L, LocalDateTime.of(2025, 5, 10, 14, 0))));
+
+            CatalogReadModelService catalogReadModelService = new CatalogReadModelService(productRepository, eventRepository, true);
+            catalogReadModelService.loadSnapshot();
+
+            CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+            ResponseProductDetailDTO productDetail = snapshot.findProductDetail(1L).orElseThrow();
+
+            assertAll(
+                    () -> assertEquals(2, snapshot.productCount()),
+                    () -> assertEquals(1, snapshot.eventCount()),
+                    () -> assertEquals(List.of(11L, 10L), productDetail.images().stream().map(ResponseProductImageDTO::id).toList()),
+                    () -> assertEquals("http://localhost/11.png", snapshot.findProducts(0, 10, false).get(0).mainImageUrl()),
+                    () -> assertNull(snapshot.findProduct(1L).orElseThrow().mainImageUrl()),
+                    () -> assertTrue(snapshot.findProductDetail(2L).orElseThrow().images().isEmpty())
+            );
+        }
+    }
+
+    @Nested
+    class applyChanges {
+        @Test
+        @DisplayName("Should swap in a new snapshot on each write and leave the previous one untouched")
+        void shouldSwapSnapshotOnWrite() {
+            CatalogReadModelService catalogReadModelService = loadEmptyReadModel();
+            CatalogSnapshot emptySnapshot = catalogReadModelService.getSnapshot();
+
+            catalogReadModelService.putProduct(createProductDTO(2L, "product 2"));
+            catalogReadModelService.putProduct(createProductDTO(1L, "product 1"));
+            catalogReadModelService.putProductImage(1L, new ResponseProductImageDTO(5L, "http://localhost/5.png", true, null, null, null, null, null));
+            CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+
+            assertAll(
+                    () -> assertEquals(0, emptySnapshot.productCount()),
+                    () -> assertEquals(List.of(1L, 2L), snapshot.findProducts(0, 10, false).stream().map(ResponseProductDTO::id).toList()),
+                    () -> assertEquals("http://localhost/5.png", snapshot.findProducts(0, 1, false).get(0).mainImageUrl()),
+                    () -> assertEquals(List.of(2L), snapshot.findProductsBefore(Long.MAX_VALUE, 1).stream().map(ResponseProductDTO::id).toList())
+            );
+
+            catalogReadModelService.putProduct(createProductDTO(1L, "renamed product"));
+            catalogReadModelService.removeProductImage(1L, 5L);
+            catalogReadModelService.removeProduct(2L);
+
+            CatalogSnapshot updatedSnapshot = catalogReadModelService.getSnapshot();
+            ResponseProductDTO updatedProduct = updatedSnapshot.findProducts(0, 10, false).get(0);
+
+            assertAll(
+                    () -> assertEquals(1, updatedSnapshot.productCount()),
+                    () -> assertEquals("renamed product", updatedProduct.name()),
+                    () -> assertNull(updatedProduct.mainImageUrl()),
+                    () -> assertEquals(2, snapshot.productCount()),
+                    () -> assertEquals("product 1", snapshot.findProduct(1L).orElseThrow().name())
+            );
+        }
+
+        @Test
+        @DisplayName("Should keep events ordered by date and time when an event is rescheduled")
+        void shouldKeepEventsOrderedByDateTime() {
+            CatalogReadModelService catalogReadModelService = loadEmptyReadModel();
+            LocalDateTime dateTime = LocalDateTime.of(2025, 5, 10, 14, 0);
+
+            catalogReadModelService.putEvent(ResponseEventDTO.fromEntity(createEvent(1L, dateTime)));
+            catalogReadModelService.putEvent(ResponseEventDTO.fromEntity(createEvent(2L, dateTime.plusDays(1))));
+            catalogReadModelService.putEvent(ResponseEventDTO.fromEntity(createEvent(1L, dateTime.plusDays(2))));
+            catalogReadModelService.removeEvent(3L);
+
+            CatalogSnapshot snapshot = catalogReadModelService.getSnapshot();
+
+            assertEquals(List.of(2L, 1L), snapshot.findEventsAfter(null, 0, 10).stream().map(ResponseEventDTO::id).toList());
+            assertEquals(List.of(1L), snapshot.findEventsAfter(dateTime.plusDays(1), 2L, 10).stream().map(ResponseEventDTO::id).toList());
+        }
+    }
+
+    private CatalogReadModelService loadEmptyReadModel() {
+        when(productRepository.findAllProductsWithImages()).thenReturn(List.of());
+        when(eventRepository.findAll()).thenReturn(List.of());
+
+        CatalogReadModelService catalogReadModelService = new CatalogReadModelService(productRepository, eventRepository, true);
+        catalogReadModelService.loadSnapshot();
+        return catalogReadModelService;
+    }
+
+    private Product createProduct(Long id, String name) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description("description")
+                .productType(EProductType.BOLSA)
+                .build();
+    }
+
+    private ResponseProductDTO createProductDTO(Long id, String name) {
+        return ResponseProductDTO.fromEntity(createProduct(id, name));
+    }
+
+    private ProductImage createProductImage(Long id, Product product, boolean isMainImage) {
+        return ProductImage.builder()
+                .id(id)
+                .imageUrl("http://localhost/" + id + ".png")
+                .isMainImage(isMainImage)
+                .product(product)
+                .build();
+    }
+
+    private Event createEvent(Long id, LocalDateTime dateTime) {
+        return Event.builder()
+                .id(id)
+                .name("event " + id)
+                .location("location")
+                .dateTime(dateTime)
+                .build();
+    }
+}
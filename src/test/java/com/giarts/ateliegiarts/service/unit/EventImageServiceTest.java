@@ -1,12 +1,17 @@
 package com.giarts.ateliegiarts.service.unit;
 
+import com.giarts.ateliegiarts.dto.ImageListVersionDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
 import com.giarts.ateliegiarts.enums.EImageFolder;
+import com.giarts.ateliegiarts.exception.EventNotFoundException;
 import com.giarts.ateliegiarts.exception.ImageStoreException;
 import com.giarts.ateliegiarts.model.Event;
 import com.giarts.ateliegiarts.model.EventImage;
 import com.giarts.ateliegiarts.repository.EventImageRepository;
 import com.giarts.ateliegiarts.service.EventImageService;
 import com.giarts.ateliegiarts.service.EventService;
+import com.giarts.ateliegiarts.util.CatalogVersion;
 import com.giarts.ateliegiarts.service.FileStorageService;
 import com.giarts.ateliegiarts.utils.MultipartFileTestUtils;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,12 +47,46 @@ public class EventImageServiceTest {
     @Mock
     private EventImageRepository eventImageRepository;
 
+    @Mock
+    private CatalogVersion catalogVersion;
+
     @InjectMocks
     private EventImageService eventImageService;
 
     @Captor
     private ArgumentCaptor<EventImage> eventImageArgumentCaptor;
 
+    @Nested
+    class getEventImagesVersion {
+        @Test
+        @DisplayName("Should change the ETag when an image is added or removed")
+        void shouldChangeETagWhenImageIsAddedOrRemoved() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+            when(eventImageRepository.findImageListVersionByEventId(1L)).thenReturn(
+                    Optional.of(new ImageListVersionDTO(updatedAt, 2L, 5L)),
+                    Optional.of(new ImageListVersionDTO(updatedAt, 2L, 5L)),
+                    Optional.of(new ImageListVersionDTO(updatedAt, 2L, 6L)),
+                    Optional.of(new ImageListVersionDTO(updatedAt, 1L, 5L))
+            );
+
+            ResourceVersionDTO version = eventImageService.getEventImagesVersion(1L);
+
+            assertEquals(version, eventImageService.getEventImagesVersion(1L));
+            assertNotEquals(version, eventImageService.getEventImagesVersion(1L));
+            assertNotEquals(version, eventImageService.getEventImagesVersion(1L));
+            assertNull(version.lastModified());
+        }
+
+        @Test
+        @DisplayName("Should throw EventNotFoundException when event does not exists")
+        void shouldThrowExceptionWhenEventDoesNotExists() {
+            when(eventImageRepository.findImageListVersionByEventId(1L)).thenReturn(Optional.empty());
+
+            assertThrows(EventNotFoundException.class, () -> eventImageService.getEventImagesVersion(1L));
+        }
+    }
+
     @Nested
     class getAllEventImages {
         @Test
@@ -103,6 +143,7 @@ public class EventImageServiceTest {
             verify(eventService, times(1)).validateEvent(eventId);
             verify(fileStorageService, times(1)).storeFileInEntityFolder(EImageFolder.EVENT, eventId, file);
             verify(eventImageRepository, times(1)).save(any(EventImage.class));
+            verify(catalogVersion, times(1)).increment(ECatalogAggregate.EVENTS);
         }
 
         @Test
@@ -145,6 +186,7 @@ public class EventImageServiceTest {
             verify(eventImageRepository, times(1)).findById(imageId);
             verify(fileStorageService, times(1)).deleteImageFromStorage(EImageFolder.EVENT, eventId, fileName);
             verify(eventImageRepository, times(1)).deleteById(imageId);
+            verify(catalogVersion, times(1)).increment(ECatalogAggregate.EVENTS);
         }
 
         @Test
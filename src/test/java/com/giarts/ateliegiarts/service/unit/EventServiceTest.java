@@ -1,12 +1,24 @@
 package com.giarts.ateliegiarts.service.unit;
 
+import com.giarts.ateliegiarts.dto.CursorPageDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.dto.event.CreateEventDTO;
 import com.giarts.ateliegiarts.dto.event.ResponseEventDTO;
 import com.giarts.ateliegiarts.dto.event.UpdateEventDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
+import com.giarts.ateliegiarts.enums.EPageCountMode;
 import com.giarts.ateliegiarts.exception.EventNotFoundException;
 import com.giarts.ateliegiarts.model.Event;
 import com.giarts.ateliegiarts.repository.EventRepository;
+import com.giarts.ateliegiarts.service.CatalogReadModelService;
 import com.giarts.ateliegiarts.service.EventService;
+import com.giarts.ateliegiarts.util.CatalogListingCache;
+import com.giarts.ateliegiarts.util.CatalogSnapshot;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.giarts.ateliegiarts.util.CursorCodec;
+import com.giarts.ateliegiarts.util.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,15 +27,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,12 +53,35 @@ public class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private CatalogReadModelService catalogReadModelService;
+
+    @Spy
+    private CursorCodec cursorCodec = new CursorCodec("secret-key");
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+    @Mock
+    private CatalogListingCache catalogListingCache;
+
     @InjectMocks
     private EventService eventService;
 
     @Captor
     private ArgumentCaptor<Event> eventArgumentCaptor;
 
+    @BeforeEach
+    void setup() {
+        lenient().when(catalogListingCache.findPage(any(), anyLong(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+        lenient().when(catalogListingCache.findSlice(any(), anyLong(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+    }
+
     @Nested
     class getAllEvents {
         @Test
@@ -65,6 +108,182 @@ public class EventServiceTest {
         }
     }
 
+    @Nested
+    class getAllEventsWithCountMode {
+        @Test
+        @DisplayName("Should not count events when count mode is NONE")
+        void shouldNotCountEventsWhenCountModeIsNone() {
+            Pageable pageable = PageRequest.of(0, 1);
+
+            when(eventRepository.findAllEventsSliced(pageable))
+                    .thenReturn(new SliceImpl<>(List.of(createEvent(1L, "event 1", "description 1", "location 1", LocalDateTime.now())), pageable, true));
+
+            Slice<ResponseEventDTO> events = eventService.getAllEvents(pageable, EPageCountMode.NONE);
+
+            assertFalse(events instanceof Page);
+            assertTrue(events.hasNext());
+
+            verify(eventRepository, never()).count();
+            verify(eventRepository, never()).findAllEventsPaginated(any());
+        }
+
+        @Test
+        @DisplayName("Should count events once and keep the cached total up to date on create and delete")
+        void shouldReuseCachedTotalAcrossPages() {
+            ReflectionTestUtils.setField(eventService, "cachedCountTtl", Duration.ofMinutes(5));
+            Pageable pageable = PageRequest.of(0, 1);
+
+            when(eventRepository.findAllEventsSliced(pageable))
+                    .thenReturn(new SliceImpl<>(List.of(createEvent(1L, "event 1", "description 1", "location 1", LocalDateTime.now())), pageable, true));
+            when(eventRepository.count()).thenReturn(10L);
+            when(eventRepository.existsById(1L)).thenReturn(true);
+
+            eventService.getAllEvents(pageable, EPageCountMode.CACHED);
+            eventService.deleteEventById(1L);
+            Page<ResponseEventDTO> events = (Page<ResponseEventDTO>) eventService.getAllEvents(pageable, EPageCountMode.CACHED);
+
+            assertEquals(9, events.getTotalElements());
+
+            verify(eventRepository, times(1)).count();
+        }
+    }
+
+    @Nested
+    class getAllEventsByCursor {
+        @Test
+        @DisplayName("Should seek past the last event of the previous page")
+        void shouldSeekPastLastEventOfPreviousPage() {
+            ReflectionTestUtils.setField(eventService, "maxCursorPageSize", 100);
+
+            LocalDateTime dateTime = LocalDateTime.of(2025, 5, 10, 14, 0);
+            List<Event> eventsList = List.of(
+                    createEvent(1L, "event 1", "description 1", "location 1", dateTime),
+                    createEvent(2L, "event 2", "description 2", "location 2", dateTime),
+                    createEvent(3L, "event 3", "description 3", "location 3", dateTime.plusDays(1))
+            );
+
+            when(eventRepository.findFirstEvents(3)).thenReturn(eventsList);
+            when(eventRepository.findEventsAfterCursor(dateTime, 2L, 3)).thenReturn(List.of(eventsList.get(2)));
+
+            CursorPageDTO<ResponseEventDTO> page = eventService.getAllEventsByCursor(null, 2);
+            CursorPageDTO<ResponseEventDTO> nextPage = eventService.getAllEventsByCursor(page.nextCursor(), 2);
+
+            assertEquals(2, page.content().size());
+            assertEventDetails(eventsList.get(2), nextPage.content().get(0));
+            assertNull(nextPage.nextCursor());
+
+            verify(eventRepository, times(1)).findEventsAfterCursor(dateTime, 2L, 3);
+        }
+
+        @Test
+        @DisplayName("Should clamp the page size to the configured maximum")
+        void shouldClampPageSizeToConfiguredMaximum() {
+            ReflectionTestUtils.setField(eventService, "maxCursorPageSize", 50);
+
+            when(eventRepository.findFirstEvents(51)).thenReturn(List.of());
+
+            CursorPageDTO<ResponseEventDTO> page = eventService.getAllEventsByCursor("", 1_000);
+
+            assertEquals(50, page.size());
+            assertNull(page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should seek past the last event of the previous page in the read model")
+        void shouldSeekPastLastEventInReadModel() {
+            ReflectionTestUtils.setField(eventService, "maxCursorPageSize", 100);
+
+            LocalDateTime dateTime = LocalDateTime.of(2025, 5, 10, 14, 0);
+            List<Event> eventsList = List.of(
+                    createEvent(3L, "event 3", "description 3", "location 3", dateTime.plusDays(1)),
+                    createEvent(2L, "event 2", "description 2", "location 2", dateTime),
+                    createEvent(1L, "event 1", "description 1", "location 1", dateTime)
+            );
+
+            when(catalogReadModelService.getSnapshot())
+                    .thenReturn(CatalogSnapshot.of(List.of(), Map.of(), eventsList.stream().map(ResponseEventDTO::fromEntity).toList()));
+
+            CursorPageDTO<ResponseEventDTO> page = eventService.getAllEventsByCursor(null, 2);
+            CursorPageDTO<ResponseEventDTO> nextPage = eventService.getAllEventsByCursor(page.nextCursor(), 2);
+
+            assertEquals(List.of(1L, 2L), page.content().stream().map(ResponseEventDTO::id).toList());
+            assertEventDetails(eventsList.get(0), nextPage.content().get(0));
+            assertNull(nextPage.nextCursor());
+
+            verifyNoInteractions(eventRepository);
+        }
+    }
+
+    @Nested
+    class getEventsVersion {
+        @Test
+        @DisplayName("Should keep the listing ETag until an event is written")
+        void shouldKeepListingETagUntilEventIsWritten() {
+            LocalDateTime dateTime = LocalDateTime.now();
+
+            when(eventRepository.save(any(Event.class))).thenReturn(createEvent(1L, "Name", "Description", "Location", dateTime));
+
+            String initialETag = eventService.getEventsVersion().eTag();
+            assertEquals(initialETag, eventService.getEventsVersion().eTag());
+
+            eventService.createEvent(new CreateEventDTO("Name", "Description", "Location", dateTime));
+
+            assertNotEquals(initialETag, eventService.getEventsVersion().eTag());
+        }
+    }
+
+    @Nested
+    class getEventVersion {
+        @Test
+        @DisplayName("Should derive a stable ETag and Last-Modified from the event update timestamp")
+        void shouldDeriveValidatorsFromEventUpdateTimestamp() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+            when(eventRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+            ResourceVersionDTO version = eventService.getEventVersion(1L);
+
+            assertEquals(version, eventService.getEventVersion(1L));
+            assertTrue(version.eTag().startsWith("\"") && version.eTag().endsWith("\""));
+            assertEquals(updatedAt.atZone(ZoneId.systemDefault()).toInstant(), version.lastModified());
+
+            verify(eventRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should change the ETag when the event is updated")
+        void shouldChangeETagWhenEventIsUpdated() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+            when(eventRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt), Optional.of(updatedAt.plusNanos(1000)));
+
+            assertNotEquals(eventService.getEventVersion(1L).eTag(), eventService.getEventVersion(1L).eTag());
+        }
+
+        @Test
+        @DisplayName("Should throw EventNotFoundException when event does not exists")
+        void shouldThrowExceptionWhenEventDoesNotExists() {
+            when(eventRepository.findUpdatedAtById(1L)).thenReturn(Optional.empty());
+
+            assertThrows(EventNotFoundException.class, () -> eventService.getEventVersion(1L));
+        }
+
+        @Test
+        @DisplayName("Should derive the same validators from a loaded event without querying the database")
+        void shouldDeriveSameValidatorsFromLoadedEvent() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+            Event event = createEvent(1L, "event", "description", "location", LocalDateTime.now());
+            event.setUpdatedAt(updatedAt);
+
+            when(eventRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+            ResourceVersionDTO version = eventService.getEventVersion(1L);
+
+            assertEquals(version, eventService.getEventVersion(ResponseEventDTO.fromEntity(event)));
+            verify(eventRepository, times(1)).findUpdatedAtById(1L);
+        }
+    }
+
     @Nested
     class getEventById {
         @Test
@@ -112,6 +331,7 @@ public class EventServiceTest {
             assertEventDetails(event, createdEvent);
 
             verify(eventRepository, times(1)).save(any(Event.class));
+            verify(catalogVersion, times(1)).increment(ECatalogAggregate.EVENTS);
         }
     }
 
@@ -0,0 +1,134 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.giarts.ateliegiarts.dto.authentication.JsonWebKeyDTO;
+import com.giarts.ateliegiarts.enums.ESigningAlgorithm;
+import com.giarts.ateliegiarts.enums.EUserRole;
+import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.model.UserRole;
+import com.giarts.ateliegiarts.security.JwtSigningKeyRing;
+import com.giarts.ateliegiarts.security.JwtTokenClaims;
+import com.giarts.ateliegiarts.security.JwtTokenService;
+import com.giarts.ateliegiarts.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenServiceTest {
+    private static final String SECRET_KEY = "secret-key";
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(4);
+
+    @Nested
+    class getSubjectFromToken {
+        @ParameterizedTest
+        @EnumSource(ESigningAlgorithm.class)
+        @DisplayName("Should verify tokens signed with the configured algorithm")
+        void shouldVerifyTokensSignedWithConfiguredAlgorithm(ESigningAlgorithm algorithm) {
+            JwtSigningKeyRing signingKeyRing = new JwtSigningKeyRing(algorithm, SECRET_KEY, ACCESS_TOKEN_TTL);
+            JwtTokenService jwtTokenService = createJwtTokenService(signingKeyRing);
+
+            String token = jwtTokenService.generateToken(createUserDetails());
+
+            assertEquals(algorithm.name(), JWT.decode(token).getAlgorithm());
+            assertEquals("email@email.com", jwtTokenService.getSubjectFromToken(token));
+        }
+
+        @Test
+        @DisplayName("Should keep verifying tokens signed before a key rotation")
+        void shouldKeepVerifyingTokensSignedBeforeKeyRotation() {
+            JwtSigningKeyRing signingKeyRing = new JwtSigningKeyRing(ESigningAlgorithm.ES256, SECRET_KEY, ACCESS_TOKEN_TTL);
+            JwtTokenService jwtTokenService = createJwtTokenService(signingKeyRing);
+
+            String token = jwtTokenService.generateToken(createUserDetails());
+            signingKeyRing.rotateKeys();
+            String rotatedToken = jwtTokenService.generateToken(createUserDetails());
+
+            assertNotEquals(JWT.decode(token).getKeyId(), JWT.decode(rotatedToken).getKeyId());
+            assertEquals("email@email.com", createJwtTokenService(signingKeyRing).getSubjectFromToken(token));
+            assertEquals("email@email.com", jwtTokenService.getSubjectFromToken(rotatedToken));
+        }
+
+        @Test
+        @DisplayName("Should reject tokens signed by a key that is not in the key ring")
+        void shouldRejectTokensSignedByUnknownKey() {
+            JwtTokenService issuer = createJwtTokenService(new JwtSigningKeyRing(ESigningAlgorithm.ES256, SECRET_KEY, ACCESS_TOKEN_TTL));
+            JwtTokenService verifier = createJwtTokenService(new JwtSigningKeyRing(ESigningAlgorithm.ES256, SECRET_KEY, ACCESS_TOKEN_TTL));
+
+            String token = issuer.generateToken(createUserDetails());
+
+            assertThrows(JWTVerificationException.class, () -> verifier.getSubjectFromToken(token));
+        }
+    }
+
+    @Nested
+    class getClaimsFromToken {
+        @Test
+        @DisplayName("Should round-trip the user ID, roles and token version claims")
+        void shouldRoundTripUserClaims() {
+            JwtTokenService jwtTokenService = createJwtTokenService(new JwtSigningKeyRing(ESigningAlgorithm.ES256, SECRET_KEY, ACCESS_TOKEN_TTL));
+            UserDetailsImpl userDetails = createUserDetails();
+            userDetails.getUser().setTokenVersion(3);
+
+            JwtTokenClaims claims = jwtTokenService.getClaimsFromToken(jwtTokenService.generateToken(userDetails));
+
+            assertAll(
+                    () -> assertEquals("email@email.com", claims.subject()),
+                    () -> assertEquals(1L, claims.userId()),
+                    () -> assertEquals(List.of("ROLE_CUSTOMER"), claims.roles()),
+                    () -> assertEquals(3, claims.tokenVersion()),
+                    () -> assertNotNull(claims.tokenId()),
+                    () -> assertTrue(claims.hasUserClaims())
+            );
+        }
+    }
+
+    @Nested
+    class getPublicKeys {
+        @Test
+        @DisplayName("Should publish the current and the next key, plus keys retired within the token lifetime")
+        void shouldPublishCurrentNextAndRetiredKeys() {
+            JwtSigningKeyRing signingKeyRing = new JwtSigningKeyRing(ESigningAlgorithm.ES256, SECRET_KEY, ACCESS_TOKEN_TTL);
+            String currentKeyId = signingKeyRing.getCurrentKey().keyId();
+
+            signingKeyRing.rotateKeys();
+            List<JsonWebKeyDTO> publicKeys = signingKeyRing.getPublicKeys();
+
+            assertEquals(3, publicKeys.size());
+            assertTrue(publicKeys.stream().anyMatch(key -> key.kid().equals(currentKeyId)));
+            assertTrue(publicKeys.stream().allMatch(key -> "EC".equals(key.kty()) && "ES256".equals(key.alg())));
+        }
+
+        @Test
+        @DisplayName("Should not publish anything when signing with a shared secret")
+        void shouldNotPublishSharedSecret() {
+            JwtSigningKeyRing signingKeyRing = new JwtSigningKeyRing(ESigningAlgorithm.HS256, SECRET_KEY, ACCESS_TOKEN_TTL);
+
+            assertTrue(signingKeyRing.getPublicKeys().isEmpty());
+        }
+    }
+
+    private JwtTokenService createJwtTokenService(JwtSigningKeyRing signingKeyRing) {
+        return new JwtTokenService(signingKeyRing, ACCESS_TOKEN_TTL, 1_000, new SimpleMeterRegistry());
+    }
+
+    private UserDetailsImpl createUserDetails() {
+        User user = User.builder()
+                .id(1L)
+                .name("User")
+                .email("email@email.com")
+                .tokenVersion(0)
+                .userRoles(Set.of(new UserRole(1L, EUserRole.ROLE_CUSTOMER)))
+                .build();
+        return new UserDetailsImpl(user);
+    }
+}
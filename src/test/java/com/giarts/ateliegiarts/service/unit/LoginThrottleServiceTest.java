@@ -0,0 +1,89 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.exception.TooManyLoginAttemptsException;
+import com.giarts.ateliegiarts.service.LoginThrottleService;
+import com.giarts.ateliegiarts.service.LoginThrottleService.BucketPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginThrottleServiceTest {
+    private final AtomicLong currentTime = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottleService loginThrottleService;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottleService = new LoginThrottleService(
+                new BucketPolicy(3, Duration.ofMinutes(1).toNanos()),
+                new BucketPolicy(5, Duration.ofSeconds(10).toNanos()),
+                1_000,
+                Duration.ofMinutes(30),
+                meterRegistry,
+                currentTime::get
+        );
+    }
+
+    @Nested
+    class checkLoginAttempt {
+        @Test
+        @DisplayName("Should allow attempts while the email bucket has tokens")
+        void shouldAllowAttemptsWhileEmailBucketHasTokens() {
+            for (int i = 0; i < 3; i++) {
+                assertDoesNotThrow(() -> loginThrottleService.checkLoginAttempt("email@email.com", "10.0.0.1"));
+            }
+
+            assertEquals(3, meterRegistry.counter("auth.login.throttle", "decision", "allowed", "key", "none").count());
+        }
+
+        @Test
+        @DisplayName("Should reject attempts when the email bucket is empty regardless of letter case")
+        void shouldRejectAttemptsWhenEmailBucketIsEmpty() {
+            for (int i = 0; i < 3; i++) {
+                loginThrottleService.checkLoginAttempt("email@email.com", "10.0.0." + i);
+            }
+
+            TooManyLoginAttemptsException ex = assertThrows(TooManyLoginAttemptsException.class,
+                    () -> loginThrottleService.checkLoginAttempt("EMAIL@email.com", "10.0.0.9"));
+
+            assertEquals(Duration.ofMinutes(1), ex.getRetryAfter());
+            assertEquals(1, meterRegistry.counter("auth.login.throttle", "decision", "rejected", "key", "email").count());
+        }
+
+        @Test
+        @DisplayName("Should reject attempts when the client IP bucket is empty")
+        void shouldRejectAttemptsWhenClientIpBucketIsEmpty() {
+            for (int i = 0; i < 5; i++) {
+                loginThrottleService.checkLoginAttempt("email" + i + "@email.com", "10.0.0.1");
+            }
+
+            assertThrows(TooManyLoginAttemptsException.class,
+                    () -> loginThrottleService.checkLoginAttempt("other@email.com", "10.0.0.1"));
+            assertEquals(1, meterRegistry.counter("auth.login.throttle", "decision", "rejected", "key", "client_ip").count());
+        }
+
+        @Test
+        @DisplayName("Should allow attempts again after the bucket refills")
+        void shouldAllowAttemptsAgainAfterBucketRefills() {
+            for (int i = 0; i < 3; i++) {
+                loginThrottleService.checkLoginAttempt("email@email.com", "10.0.0.1");
+            }
+
+            assertThrows(TooManyLoginAttemptsException.class,
+                    () -> loginThrottleService.checkLoginAttempt("email@email.com", "10.0.0.1"));
+
+            currentTime.addAndGet(Duration.ofMinutes(1).toNanos());
+
+            assertDoesNotThrow(() -> loginThrottleService.checkLoginAttempt("email@email.com", "10.0.0.1"));
+        }
+    }
+}
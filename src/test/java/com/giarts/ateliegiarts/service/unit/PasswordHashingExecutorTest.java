@@ -0,0 +1,122 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.exception.PasswordHashingUnavailableException;
+import com.giarts.ateliegiarts.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingExecutorTest {
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(7);
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private ExecutorService callers;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), RETRY_AFTER, meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Nested
+    class execute {
+        @Test
+        @DisplayName("Should return the task result and record it under the operation timer")
+        void shouldReturnTaskResultAndRecordTimer() {
+            assertEquals("hash", passwordHashingExecutor.execute("encode", () -> "hash"));
+
+            assertEquals(1, meterRegistry.get("auth.password.hashing.duration").tag("operation", "encode").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should reject tasks with the configured retry-after once the worker and queue are full")
+        void shouldRejectTasksWhenSaturated() throws Exception {
+            Future<String> running = callers.submit(() -> passwordHashingExecutor.execute("matches", this::awaitRelease));
+            awaitGauge("auth.password.hashing.active", 1);
+            Future<String> queued = callers.submit(() -> passwordHashingExecutor.execute("matches", this::awaitRelease));
+            awaitGauge("auth.password.hashing.queue.depth", 1);
+
+            PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                    () -> passwordHashingExecutor.execute("encode", () -> "hash"));
+
+            assertEquals(RETRY_AFTER, exception.getRetryAfter());
+            assertEquals(1, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+            assertEquals(1, meterRegistry.get("auth.password.hashing.active").gauge().value());
+            assertEquals(1, meterRegistry.get("auth.password.hashing.queue.depth").gauge().value());
+
+            release.countDown();
+            assertEquals("done", running.get(5, TimeUnit.SECONDS));
+            assertEquals("done", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(2, meterRegistry.get("auth.password.hashing.duration").tag("operation", "matches").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should give up with the configured retry-after when the task exceeds the timeout")
+        void shouldGiveUpWhenTaskExceedsTimeout() {
+            PasswordHashingExecutor timingOutExecutor = new PasswordHashingExecutor(1, 1, Duration.ofMillis(50), RETRY_AFTER,
+                    meterRegistry);
+
+            try {
+                PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                        () -> timingOutExecutor.execute("matches", this::awaitRelease));
+
+                assertEquals(RETRY_AFTER, exception.getRetryAfter());
+                assertInstanceOf(TimeoutException.class, exception.getCause());
+            } finally {
+                timingOutExecutor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should rethrow runtime exceptions raised by the task")
+        void shouldRethrowRuntimeExceptionsRaisedByTask() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> passwordHashingExecutor.execute("encode", () -> {
+                        throw new IllegalArgumentException("rawPassword cannot be null");
+                    }));
+
+            assertEquals("rawPassword cannot be null", exception.getMessage());
+        }
+
+        private String awaitRelease() {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }
+
+        private void awaitGauge(String name, double expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get(name).gauge().value() != expected) {
+                assertTrue(System.nanoTime() < deadline, name + " never reached " + expected);
+                Thread.sleep(5);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.enums.EUserRole;
+import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.model.UserRole;
+import com.giarts.ateliegiarts.security.PrincipalCache;
+import com.giarts.ateliegiarts.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrincipalCacheTest {
+    private final Map<String, UserDetailsImpl> users = Map.of(
+            "first@email.com", createUserDetails(1L, "first@email.com"),
+            "second@email.com", createUserDetails(2L, "second@email.com")
+    );
+
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private Function<String, Optional<UserDetailsImpl>> loader;
+
+    @BeforeEach
+    void setup() {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+        loader = subject -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(users.get(subject));
+        };
+    }
+
+    @Nested
+    class getPrincipal {
+        @Test
+        @DisplayName("Should serve repeated lookups of the same subject without calling the loader again")
+        void shouldServeRepeatedLookupsFromCache() {
+            UserDetailsImpl first = principalCache.getPrincipal("first@email.com", loader).orElseThrow();
+            UserDetailsImpl second = principalCache.getPrincipal("first@email.com", loader).orElseThrow();
+
+            assertSame(first, second);
+            assertEquals(1, loads.get());
+            assertEquals(1, principalCache.getStats().hitCount());
+        }
+
+        @Test
+        @DisplayName("Should not cache lookups of unknown subjects")
+        void shouldNotCacheUnknownSubjects() {
+            assertTrue(principalCache.getPrincipal("unknown@email.com", loader).isEmpty());
+            assertTrue(principalCache.getPrincipal("unknown@email.com", loader).isEmpty());
+
+            assertEquals(2, loads.get());
+        }
+    }
+
+    @Nested
+    class invalidateUser {
+        @Test
+        @DisplayName("Should evict only the principals of the given user")
+        void shouldEvictOnlyPrincipalsOfGivenUser() {
+            principalCache.getPrincipal("first@email.com", loader);
+            principalCache.getPrincipal("second@email.com", loader);
+
+            principalCache.invalidateUser(1L);
+
+            principalCache.getPrincipal("second@email.com", loader);
+            assertEquals(2, loads.get());
+
+            principalCache.getPrincipal("first@email.com", loader);
+            assertEquals(3, loads.get());
+        }
+    }
+
+    private static UserDetailsImpl createUserDetails(Long id, String email) {
+        User user = User.builder()
+                .id(id)
+                .name("User")
+                .email(email)
+                .userRoles(Set.of(new UserRole(1L, EUserRole.ROLE_CUSTOMER)))
+                .build();
+        return new UserDetailsImpl(user);
+    }
+}
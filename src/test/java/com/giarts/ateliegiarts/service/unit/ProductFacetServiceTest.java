@@ -0,0 +1,150 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.dto.product.ProductFacetDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+import com.giarts.ateliegiarts.dto.product.ProductTypeCountDTO;
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.service.ProductFacetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductFacetServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductFacetService productFacetService;
+
+    @BeforeEach
+    void setup() {
+        when(productRepository.countProductsByType()).thenReturn(List.of(
+                new ProductTypeCountDTO(EProductType.BOLSA, 42L),
+                new ProductTypeCountDTO(EProductType.TAPETE, 17L)
+        ));
+        productFacetService.loadFacets();
+    }
+
+    @Nested
+    class getProductTypeFacets {
+        @Test
+        @DisplayName("Should return a facet for every product type with its label")
+        void shouldReturnFacetForEveryProductType() {
+            List<ProductFacetDTO> facets = productFacetService.getProductTypeFacets();
+
+            assertEquals(EProductType.values().length, facets.size());
+            assertEquals(new ProductFacetDTO(EProductType.BOLSA, "Bolsa", 42), facets.get(0));
+            assertEquals(new ProductFacetDTO(EProductType.TAPETE, "Tapete", 17), facets.get(1));
+            assertEquals(0, facets.get(2).count());
+        }
+    }
+
+    @Nested
+    class onProductChanged {
+        @Test
+        @DisplayName("Should increment the facet of created products")
+        void shouldIncrementFacetOfCreatedProducts() {
+            productFacetService.onProductChanged(ProductChangedEvent.created(createSummary(EProductType.ROUPA)));
+
+            assertEquals(1, countOf(EProductType.ROUPA));
+        }
+
+        @Test
+        @DisplayName("Should move the count between facets when the product type changes")
+        void shouldMoveCountWhenProductTypeChanges() {
+            productFacetService.onProductChanged(ProductChangedEvent.updated(
+                    createSummary(EProductType.BOLSA), createSummary(EProductType.TAPETE)));
+
+            assertEquals(41, countOf(EProductType.BOLSA));
+            assertEquals(18, countOf(EProductType.TAPETE));
+        }
+
+        @Test
+        @DisplayName("Should keep the facets when the product type does not change")
+        void shouldKeepFacetsWhenProductTypeDoesNotChange() {
+            productFacetService.onProductChanged(ProductChangedEvent.updated(
+                    createSummary(EProductType.BOLSA), createSummary(EProductType.BOLSA)));
+
+            assertEquals(42, countOf(EProductType.BOLSA));
+        }
+
+        @Test
+        @DisplayName("Should decrement the facet of deleted products")
+        void shouldDecrementFacetOfDeletedProducts() {
+            productFacetService.onProductChanged(ProductChangedEvent.deleted(createSummary(EProductType.TAPETE)));
+
+            assertEquals(16, countOf(EProductType.TAPETE));
+        }
+    }
+
+    @Nested
+    class reconcileFacets {
+        @Test
+        @DisplayName("Should overwrite drifted counters with the database counts")
+        void shouldOverwriteDriftedCounters() {
+            productFacetService.onProductChanged(ProductChangedEvent.created(createSummary(EProductType.BOLSA)));
+            when(productRepository.countProductsByType()).thenReturn(List.of(new ProductTypeCountDTO(EProductType.BOLSA, 40L)));
+
+            productFacetService.reconcileFacets();
+
+            assertEquals(40, countOf(EProductType.BOLSA));
+            assertEquals(0, countOf(EProductType.TAPETE));
+        }
+
+        @Test
+        @DisplayName("Should ignore products without a product type")
+        void shouldIgnoreProductsWithoutProductType() {
+            when(productRepository.countProductsByType()).thenReturn(List.of(
+                    new ProductTypeCountDTO(null, 3L),
+                    new ProductTypeCountDTO(EProductType.ROUPA, 5L)
+            ));
+
+            assertDoesNotThrow(() -> productFacetService.reconcileFacets());
+
+            assertEquals(5, countOf(EProductType.ROUPA));
+            assertEquals(0, countOf(EProductType.BOLSA));
+        }
+
+        @Test
+        @DisplayName("Should keep product changes applied while the database counts are loading")
+        void shouldKeepProductChangesAppliedWhileCountsAreLoading() throws InterruptedException {
+            Thread writer = new Thread(() -> productFacetService.onProductChanged(
+                    ProductChangedEvent.created(createSummary(EProductType.BOLSA))));
+            when(productRepository.countProductsByType()).thenAnswer(invocation -> {
+                writer.start();
+                writer.join(200);
+                return List.of(new ProductTypeCountDTO(EProductType.BOLSA, 40L));
+            });
+
+            productFacetService.reconcileFacets();
+            writer.join();
+
+            assertEquals(41, countOf(EProductType.BOLSA));
+        }
+    }
+
+    private long countOf(EProductType productType) {
+        return productFacetService.getProductTypeFacets().stream()
+                .filter(facet -> facet.productType() == productType)
+                .findFirst()
+                .orElseThrow()
+                .count();
+    }
+
+    private ProductSummaryDTO createSummary(EProductType productType) {
+        return new ProductSummaryDTO(1L, "product", "description", productType);
+    }
+}
@@ -1,14 +1,22 @@
 package com.giarts.ateliegiarts.service.unit;
 
+import com.giarts.ateliegiarts.dto.ImageListVersionDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
 import com.giarts.ateliegiarts.enums.EImageFolder;
 import com.giarts.ateliegiarts.exception.ImageStoreException;
+import com.giarts.ateliegiarts.exception.ProductNotFoundException;
 import com.giarts.ateliegiarts.model.Product;
 import com.giarts.ateliegiarts.model.ProductImage;
 import com.giarts.ateliegiarts.repository.ProductImageRepository;
+import com.giarts.ateliegiarts.service.CatalogReadModelService;
 import com.giarts.ateliegiarts.service.FileStorageService;
 import com.giarts.ateliegiarts.service.ProductImageService;
 import com.giarts.ateliegiarts.service.ProductService;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.giarts.ateliegiarts.util.SingleFlight;
 import com.giarts.ateliegiarts.utils.MultipartFileTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,10 +25,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,12 +51,52 @@ public class ProductImageServiceTest {
     @Mock
     private ProductImageRepository productImageRepository;
 
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CatalogReadModelService catalogReadModelService;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
     @InjectMocks
     private ProductImageService productImageService;
 
     @Captor
     private ArgumentCaptor<ProductImage> productImageArgumentCaptor;
 
+    @Nested
+    class getProductImagesVersion {
+        @Test
+        @DisplayName("Should change the ETag when an image is added or removed")
+        void shouldChangeETagWhenImageIsAddedOrRemoved() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+            when(productImageRepository.findImageListVersionByProductId(1L)).thenReturn(
+                    Optional.of(new ImageListVersionDTO(updatedAt, 2L, 5L)),
+                    Optional.of(new ImageListVersionDTO(updatedAt, 2L, 5L)),
+                    Optional.of(new ImageListVersionDTO(updatedAt, 2L, 6L)),
+                    Optional.of(new ImageListVersionDTO(updatedAt, 1L, 5L))
+            );
+
+            ResourceVersionDTO version = productImageService.getProductImagesVersion(1L);
+
+            assertEquals(version, productImageService.getProductImagesVersion(1L));
+            assertNotEquals(version, productImageService.getProductImagesVersion(1L));
+            assertNotEquals(version, productImageService.getProductImagesVersion(1L));
+            assertNull(version.lastModified());
+        }
+
+        @Test
+        @DisplayName("Should throw ProductNotFoundException when product does not exists")
+        void shouldThrowExceptionWhenProductDoesNotExists() {
+            when(productImageRepository.findImageListVersionByProductId(1L)).thenReturn(Optional.empty());
+
+            assertThrows(ProductNotFoundException.class, () -> productImageService.getProductImagesVersion(1L));
+        }
+    }
+
     @Nested
     class getAllProductImages {
         @Test
@@ -71,6 +121,20 @@ public class ProductImageServiceTest {
             verify(productService, times(1)).validateProduct(productId);
             verify(productImageRepository, times(1)).findAllByProductId(productId);
         }
+
+        @Test
+        @DisplayName("Should rethrow ProductNotFoundException raised inside the shared image load")
+        void shouldRethrowExceptionRaisedInsideSharedLoad() {
+            Long productId = 1L;
+
+            doThrow(new ProductNotFoundException(productId)).when(productService).validateProduct(productId);
+
+            assertThrows(ProductNotFoundException.class, () -> productImageService.getAllProductImages(productId));
+            assertThrows(ProductNotFoundException.class, () -> productImageService.getAllProductImages(productId));
+
+            verify(productService, times(2)).validateProduct(productId);
+            verify(productImageRepository, never()).findAllByProductId(anyLong());
+        }
     }
 
     @Nested
@@ -110,6 +174,7 @@ public class ProductImageServiceTest {
             verify(productService, times(1)).validateProduct(productId);
             verify(fileStorageService, times(1)).storeFileInEntityFolder(EImageFolder.PRODUCT, productId, file);
             verify(productImageRepository, times(1)).save(any(ProductImage.class));
+            verify(catalogVersion, times(1)).increment(ECatalogAggregate.PRODUCTS);
         }
 
         @Test
@@ -153,6 +218,7 @@ public class ProductImageServiceTest {
             verify(productImageRepository, times(1)).findById(imageId);
             verify(fileStorageService, times(1)).deleteImageFromStorage(EImageFolder.PRODUCT, productId, fileName);
             verify(productImageRepository, times(1)).deleteById(imageId);
+            verify(catalogVersion, times(1)).increment(ECatalogAggregate.PRODUCTS);
         }
 
         @Test
@@ -0,0 +1,124 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.dto.product.ProductSearchResultDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.service.ProductSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSearchServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductSearchService productSearchService;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(productSearchService, "maxResults", 50);
+
+        when(productRepository.findAll()).thenReturn(List.of(
+                createProduct(1L, "Bolsa de crochê", "Bolsa artesanal feita à mão", EProductType.BOLSA),
+                createProduct(2L, "Tapete redondo", "Tapete de barbante com detalhes em crochê", EProductType.TAPETE),
+                createProduct(3L, "Caminho de mesa", "Peça com flores bordadas", EProductType.TAPETE)
+        ));
+        productSearchService.buildIndex();
+    }
+
+    @Nested
+    class searchProducts {
+        @Test
+        @DisplayName("Should match products ignoring accents and letter case")
+        void shouldMatchProductsIgnoringAccentsAndLetterCase() {
+            List<ProductSearchResultDTO> results = productSearchService.searchProducts("CROCHE", 10);
+
+            assertEquals(List.of(1L, 2L), results.stream().map(ProductSearchResultDTO::id).toList());
+            assertTrue(results.get(0).score() > results.get(1).score());
+        }
+
+        @Test
+        @DisplayName("Should match plural and singular forms of the same word")
+        void shouldMatchPluralAndSingularForms() {
+            List<ProductSearchResultDTO> results = productSearchService.searchProducts("flor bordada", 10);
+
+            assertEquals(1, results.size());
+            assertEquals(3L, results.get(0).id());
+        }
+
+        @Test
+        @DisplayName("Should return empty list when query has only stop words")
+        void shouldReturnEmptyListWhenQueryHasOnlyStopWords() {
+            assertTrue(productSearchService.searchProducts("de com a", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should limit the number of results")
+        void shouldLimitTheNumberOfResults() {
+            List<ProductSearchResultDTO> results = productSearchService.searchProducts("tapete bolsa mesa", 2);
+
+            assertEquals(2, results.size());
+        }
+    }
+
+    @Nested
+    class onProductChanged {
+        @Test
+        @DisplayName("Should index created products without reloading from the database")
+        void shouldIndexCreatedProducts() {
+            productSearchService.onProductChanged(ProductChangedEvent.created(
+                    new ProductSummaryDTO(4L, "Almofada", "Almofada de crochê", EProductType.BOLSA)));
+
+            List<ProductSearchResultDTO> results = productSearchService.searchProducts("almofadas", 10);
+
+            assertEquals(List.of(4L), results.stream().map(ProductSearchResultDTO::id).toList());
+            verify(productRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("Should replace the indexed terms of updated products")
+        void shouldReplaceIndexedTermsOfUpdatedProducts() {
+            ProductSummaryDTO previous = new ProductSummaryDTO(1L, "Bolsa de crochê", "Bolsa artesanal feita à mão", EProductType.BOLSA);
+            ProductSummaryDTO current = new ProductSummaryDTO(1L, "Bolsa de couro", "Bolsa artesanal", EProductType.BOLSA);
+
+            productSearchService.onProductChanged(ProductChangedEvent.updated(previous, current));
+
+            assertEquals(List.of(2L), productSearchService.searchProducts("crochê", 10).stream().map(ProductSearchResultDTO::id).toList());
+            assertEquals("Bolsa de couro", productSearchService.searchProducts("couro", 10).get(0).name());
+        }
+
+        @Test
+        @DisplayName("Should remove deleted products from the index")
+        void shouldRemoveDeletedProducts() {
+            productSearchService.onProductChanged(ProductChangedEvent.deleted(
+                    new ProductSummaryDTO(2L, "Tapete redondo", "Tapete de barbante com detalhes em crochê", EProductType.TAPETE)));
+
+            assertTrue(productSearchService.searchProducts("barbante", 10).isEmpty());
+        }
+    }
+
+    private Product createProduct(Long id, String name, String description, EProductType productType) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .productType(productType)
+                .build();
+    }
+}
@@ -1,13 +1,37 @@
 package com.giarts.ateliegiarts.service.unit;
 
+import com.giarts.ateliegiarts.dto.CursorPageDTO;
+import com.giarts.ateliegiarts.dto.ResourceVersionDTO;
 import com.giarts.ateliegiarts.dto.product.CreateProductDTO;
+import com.giarts.ateliegiarts.dto.product.ProductFilterDTO;
+import com.giarts.ateliegiarts.dto.product.ProductMainImageDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+import com.giarts.ateliegiarts.dto.product.ProductWithImageDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductDetailDTO;
 import com.giarts.ateliegiarts.dto.product.ResponseProductDTO;
+import com.giarts.ateliegiarts.dto.product.ResponseProductImageDTO;
 import com.giarts.ateliegiarts.dto.product.UpdateProductDTO;
+import com.giarts.ateliegiarts.enums.ECatalogAggregate;
 import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.enums.EPageCountMode;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.exception.InvalidCursorException;
+import com.giarts.ateliegiarts.exception.InvalidSortException;
 import com.giarts.ateliegiarts.exception.ProductNotFoundException;
 import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.model.ProductImage;
+import com.giarts.ateliegiarts.repository.ProductImageRepository;
 import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.service.CatalogReadModelService;
 import com.giarts.ateliegiarts.service.ProductService;
+import com.giarts.ateliegiarts.util.CatalogListingCache;
+import com.giarts.ateliegiarts.util.CatalogSnapshot;
+import com.giarts.ateliegiarts.util.CatalogVersion;
+import com.giarts.ateliegiarts.util.CursorCodec;
+import com.giarts.ateliegiarts.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,14 +40,31 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,12 +74,46 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogReadModelService catalogReadModelService;
+
+    @Spy
+    private CursorCodec cursorCodec = new CursorCodec("secret-key");
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    @Mock
+    private CatalogListingCache catalogListingCache;
+
     @InjectMocks
     private ProductService productService;
 
     @Captor
     private ArgumentCaptor<Product> productArgumentCaptor;
 
+    @Captor
+    private ArgumentCaptor<Pageable> pageableArgumentCaptor;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(catalogListingCache.findPage(any(), anyLong(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+        lenient().when(catalogListingCache.findSlice(any(), anyLong(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+    }
+
     @Nested
     class getAllProducts {
         @Test
@@ -63,6 +138,290 @@ public class ProductServiceTest {
 
             verify(productRepository, times(1)).findAllProductsPaginated(pageable);
         }
+
+        @Test
+        @DisplayName("Should embed the main image URL of every product with a single batched query")
+        void shouldEmbedMainImageUrlWithSingleBatchedQuery() {
+            Pageable pageable = PageRequest.of(0, 100);
+
+            List<Product> productsList = List.of(
+                    createProduct(1L, "product 1", "description 1", EProductType.BOLSA),
+                    createProduct(2L, "product 2", "description 2", EProductType.TAPETE)
+            );
+
+            when(productRepository.findAllProductsPaginated(pageable))
+                    .thenReturn(new PageImpl<>(productsList, pageable, productsList.size()));
+            when(productImageRepository.findMainImagesByProductIds(List.of(1L, 2L)))
+                    .thenReturn(List.of(new ProductMainImageDTO(1L, "url-1")));
+
+            List<ResponseProductDTO> productsRetrieved = productService.getAllProducts(pageable).getContent();
+
+            assertEquals("url-1", productsRetrieved.get(0).mainImageUrl());
+            assertNull(productsRetrieved.get(1).mainImageUrl());
+
+            verify(productImageRepository, times(1)).findMainImagesByProductIds(anyCollection());
+        }
+    }
+
+    @Nested
+    class getAllProductsWithCountMode {
+        @Test
+        @DisplayName("Should not count products when count mode is NONE")
+        void shouldNotCountProductsWhenCountModeIsNone() {
+            Pageable pageable = PageRequest.of(0, 1);
+
+            when(productRepository.findAllProductsSliced(pageable))
+                    .thenReturn(new SliceImpl<>(List.of(createProduct(1L, "product 1", "description 1", EProductType.BOLSA)), pageable, true));
+
+            Slice<ResponseProductDTO> products = productService.getAllProducts(pageable, EPageCountMode.NONE);
+
+            assertFalse(products instanceof Page);
+            assertTrue(products.hasNext());
+
+            verify(productRepository, never()).count();
+            verify(productRepository, never()).findAllProductsPaginated(any());
+        }
+
+        @Test
+        @DisplayName("Should count products once and keep the cached total up to date on create and delete")
+        void shouldReuseCachedTotalAcrossPages() {
+            ReflectionTestUtils.setField(productService, "cachedCountTtl", Duration.ofMinutes(5));
+            Pageable pageable = PageRequest.of(0, 1);
+
+            when(productRepository.findAllProductsSliced(pageable))
+                    .thenReturn(new SliceImpl<>(List.of(createProduct(1L, "product 1", "description 1", EProductType.BOLSA)), pageable, true));
+            when(productRepository.count()).thenReturn(10L);
+            when(productRepository.findById(1L)).thenReturn(Optional.of(createProduct(1L, "product 1", "description 1", EProductType.BOLSA)));
+
+            productService.getAllProducts(pageable, EPageCountMode.CACHED);
+            productService.deleteProductById(1L);
+            Page<ResponseProductDTO> products = (Page<ResponseProductDTO>) productService.getAllProducts(pageable, EPageCountMode.CACHED);
+
+            assertEquals(9, products.getTotalElements());
+
+            verify(productRepository, times(1)).count();
+        }
+
+        @Test
+        @DisplayName("Should slice products from the read model without querying the database when it is loaded")
+        void shouldSliceProductsFromReadModel() {
+            CatalogSnapshot snapshot = CatalogSnapshot.of(
+                    List.of(ResponseProductDTO.fromEntity(createProduct(1L, "product 1", "description 1", EProductType.BOLSA)),
+                            ResponseProductDTO.fromEntity(createProduct(2L, "product 2", "description 2", EProductType.BOLSA)),
+                            ResponseProductDTO.fromEntity(createProduct(3L, "product 3", "description 3", EProductType.TAPETE))),
+                    Map.of(3L, List.of(createProductImage(10L, "http://localhost/3/main.png", true))),
+                    List.of()
+            );
+            Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+
+            when(catalogReadModelService.getSnapshot()).thenReturn(snapshot);
+
+            Page<ResponseProductDTO> products = (Page<ResponseProductDTO>) productService.getAllProducts(pageable, EPageCountMode.EXACT);
+
+            assertEquals(3, products.getTotalElements());
+            assertEquals(List.of(3L, 2L), products.getContent().stream().map(ResponseProductDTO::id).toList());
+            assertEquals("http://localhost/3/main.png", products.getContent().get(0).mainImageUrl());
+
+            verifyNoInteractions(productRepository, productImageRepository);
+        }
+    }
+
+    @Nested
+    class getAllProductsWithFilter {
+        private final ProductFilterDTO emptyFilter = new ProductFilterDTO(null, null, null, null, null);
+
+        @Test
+        @DisplayName("Should translate the sort key to its column and add the ID as tiebreaker")
+        void shouldTranslateSortKeyAndAddIdTiebreaker() {
+            Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            when(productRepository.findAllProductsPaginated(any())).thenReturn(Page.empty());
+
+            productService.getAllProducts(emptyFilter, pageable, EPageCountMode.EXACT);
+
+            verify(productRepository).findAllProductsPaginated(pageableArgumentCaptor.capture());
+            assertEquals(Sort.by(Sort.Direction.DESC, "created_at", "id"), pageableArgumentCaptor.getValue().getSort());
+        }
+
+        @Test
+        @DisplayName("Should sort by ID when no sort is given")
+        void shouldSortByIdWhenNoSortIsGiven() {
+            when(productRepository.findAllProductsPaginated(any())).thenReturn(Page.empty());
+
+            productService.getAllProducts(emptyFilter, PageRequest.of(0, 20), EPageCountMode.EXACT);
+
+            verify(productRepository).findAllProductsPaginated(pageableArgumentCaptor.capture());
+            assertEquals(Sort.by("id"), pageableArgumentCaptor.getValue().getSort());
+        }
+
+        @Test
+        @DisplayName("Should use the filtered query when a product type is given")
+        void shouldUseFilteredQueryWhenProductTypeIsGiven() {
+            ProductFilterDTO filter = new ProductFilterDTO(EProductType.BOLSA, null, null, null, null);
+            Pageable pageable = PageRequest.of(0, 20, Sort.by("name"));
+
+            when(productRepository.findAllProductsFilteredSliced(eq(filter), any()))
+                    .thenReturn(new SliceImpl<>(List.of(createProduct(1L, "product", "description", EProductType.BOLSA))));
+
+            Slice<ResponseProductDTO> products = productService.getAllProducts(filter, pageable, EPageCountMode.NONE);
+
+            assertEquals(1, products.getNumberOfElements());
+
+            verify(productRepository).findAllProductsFilteredSliced(eq(filter), pageableArgumentCaptor.capture());
+            assertEquals(Sort.by(Sort.Direction.ASC, "name", "id"), pageableArgumentCaptor.getValue().getSort());
+
+            verify(productRepository, never()).findAllProductsSliced(any());
+            verify(productRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidSortException when sort key is not whitelisted")
+        void shouldThrowExceptionWhenSortKeyIsNotWhitelisted() {
+            Pageable pageable = PageRequest.of(0, 20, Sort.by("description"));
+
+            assertThrows(InvalidSortException.class,
+                    () -> productService.getAllProducts(emptyFilter, pageable, EPageCountMode.EXACT));
+
+            verifyNoInteractions(productRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidSortException when date range does not match the sort key")
+        void shouldThrowExceptionWhenDateRangeDoesNotMatchSortKey() {
+            ProductFilterDTO filter = new ProductFilterDTO(null, LocalDateTime.now().minusDays(7), null, null, null);
+            Pageable pageable = PageRequest.of(0, 20, Sort.by("updatedAt"));
+
+            assertThrows(InvalidSortException.class,
+                    () -> productService.getAllProducts(filter, pageable, EPageCountMode.EXACT));
+
+            verifyNoInteractions(productRepository);
+        }
+    }
+
+    @Nested
+    class getAllProductsByCursor {
+        @Test
+        @DisplayName("Should return the first page and a cursor when more products exist")
+        void shouldReturnFirstPageAndCursorWhenMoreProductsExist() {
+            ReflectionTestUtils.setField(productService, "maxCursorPageSize", 100);
+
+            List<Product> productsList = List.of(
+                    createProduct(3L, "product 3", "description 3", EProductType.BOLSA),
+                    createProduct(2L, "product 2", "description 2", EProductType.TAPETE),
+                    createProduct(1L, "product 1", "description 1", EProductType.ROUPA)
+            );
+
+            when(productRepository.findFirstProducts(3)).thenReturn(productsList);
+
+            CursorPageDTO<ResponseProductDTO> page = productService.getAllProductsByCursor("", 2);
+
+            assertEquals(2, page.content().size());
+            assertProductDetails(productsList.get(0), page.content().get(0));
+            assertProductDetails(productsList.get(1), page.content().get(1));
+            assertNotNull(page.nextCursor());
+
+            when(productRepository.findProductsAfterCursor(2L, 3)).thenReturn(List.of(productsList.get(2)));
+
+            CursorPageDTO<ResponseProductDTO> nextPage = productService.getAllProductsByCursor(page.nextCursor(), 2);
+
+            assertEquals(1, nextPage.content().size());
+            assertNull(nextPage.nextCursor());
+
+            verify(productRepository, times(1)).findProductsAfterCursor(2L, 3);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidCursorException when cursor was tampered with")
+        void shouldThrowExceptionWhenCursorWasTampered() {
+            ReflectionTestUtils.setField(productService, "maxCursorPageSize", 100);
+
+            String tamperedCursor = cursorCodec.encode("products", "2").replaceFirst("^.", "A");
+
+            assertThrows(InvalidCursorException.class, () -> productService.getAllProductsByCursor(tamperedCursor, 2));
+
+            verify(productRepository, never()).findProductsAfterCursor(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidCursorException when cursor belongs to another listing")
+        void shouldThrowExceptionWhenCursorBelongsToAnotherListing() {
+            ReflectionTestUtils.setField(productService, "maxCursorPageSize", 100);
+
+            String eventsCursor = cursorCodec.encode("events", "2");
+
+            assertThrows(InvalidCursorException.class, () -> productService.getAllProductsByCursor(eventsCursor, 2));
+        }
+    }
+
+    @Nested
+    class getProductsVersion {
+        @Test
+        @DisplayName("Should keep the listing ETag until a product is written")
+        void shouldKeepListingETagUntilProductIsWritten() {
+            Product product = createProduct(1L, "product", "description", EProductType.BOLSA);
+
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+            String initialETag = productService.getProductsVersion().eTag();
+            assertEquals(initialETag, productService.getProductsVersion().eTag());
+
+            productService.deleteProductById(1L);
+
+            assertNotEquals(initialETag, productService.getProductsVersion().eTag());
+            verify(productRepository, never()).count();
+        }
+    }
+
+    @Nested
+    class getProductVersion {
+        @Test
+        @DisplayName("Should derive a stable ETag and Last-Modified from the product update timestamp")
+        void shouldDeriveValidatorsFromProductUpdateTimestamp() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+            when(productRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+            ResourceVersionDTO version = productService.getProductVersion(1L);
+
+            assertEquals(version, productService.getProductVersion(1L));
+            assertTrue(version.eTag().startsWith("\"") && version.eTag().endsWith("\""));
+            assertEquals(updatedAt.atZone(ZoneId.systemDefault()).toInstant(), version.lastModified());
+
+            verify(productRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should change the ETag when the product is updated")
+        void shouldChangeETagWhenProductIsUpdated() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+            when(productRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt), Optional.of(updatedAt.plusNanos(1000)));
+
+            assertNotEquals(productService.getProductVersion(1L).eTag(), productService.getProductVersion(1L).eTag());
+        }
+
+        @Test
+        @DisplayName("Should throw ProductNotFoundException when product does not exists")
+        void shouldThrowExceptionWhenProductDoesNotExists() {
+            when(productRepository.findUpdatedAtById(1L)).thenReturn(Optional.empty());
+
+            assertThrows(ProductNotFoundException.class, () -> productService.getProductVersion(1L));
+        }
+
+        @Test
+        @DisplayName("Should derive the same validators from a loaded product without querying the database")
+        void shouldDeriveSameValidatorsFromLoadedProduct() {
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+            Product product = createProduct(1L, "product", "description", EProductType.BOLSA);
+            product.setUpdatedAt(updatedAt);
+
+            when(productRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+            ResourceVersionDTO version = productService.getProductVersion(1L);
+
+            assertEquals(version, productService.getProductVersion(ResponseProductDTO.fromEntity(product)));
+            verify(productRepository, times(1)).findUpdatedAtById(1L);
+        }
     }
 
     @Nested
@@ -93,6 +452,104 @@ public class ProductServiceTest {
 
             verify(productRepository, times(1)).findById(anyLong());
         }
+
+        @Test
+        @DisplayName("Should share one repository load between concurrent lookups of the same product")
+        void shouldShareOneLoadBetweenConcurrentLookups() throws Exception {
+            Product product = createProduct(1L, "product", "description", EProductType.BOLSA);
+            CountDownLatch releaseLoad = new CountDownLatch(1);
+            int concurrentLookups = 8;
+
+            when(productRepository.findById(product.getId())).thenAnswer(invocation -> {
+                releaseLoad.await(5, TimeUnit.SECONDS);
+                return Optional.of(product);
+            });
+
+            ExecutorService executor = Executors.newFixedThreadPool(concurrentLookups);
+            try {
+                List<Future<ResponseProductDTO>> lookups = new ArrayList<>();
+                for (int i = 0; i < concurrentLookups; i++) {
+                    lookups.add(executor.submit(() -> productService.getProductById(product.getId())));
+                }
+
+                Counter coalescedLookups = meterRegistry.counter("catalog.lookups", "lookup", "product", "outcome", "coalesced");
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (coalescedLookups.count() < concurrentLookups - 1 && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                releaseLoad.countDown();
+
+                for (Future<ResponseProductDTO> lookup : lookups) {
+                    assertProductDetails(product, lookup.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(concurrentLookups - 1, coalescedLookups.count());
+            } finally {
+                executor.shutdownNow();
+            }
+
+            verify(productRepository, times(1)).findById(product.getId());
+        }
+
+        @Test
+        @DisplayName("Should get product from the read model when it is loaded")
+        void shouldGetProductFromReadModel() {
+            Product product = createProduct(1L, "product", "description", EProductType.BOLSA);
+
+            when(catalogReadModelService.getSnapshot())
+                    .thenReturn(CatalogSnapshot.of(List.of(ResponseProductDTO.fromEntity(product)), Map.of(), List.of()));
+
+            ResponseProductDTO productRetrieved = productService.getProductById(product.getId());
+
+            assertProductDetails(product, productRetrieved);
+            assertThrows(ProductNotFoundException.class, () -> productService.getProductById(2L));
+
+            verifyNoInteractions(productRepository);
+        }
+    }
+
+    @Nested
+    class getProductDetailById {
+        @Test
+        @DisplayName("Should get product detail with its images in a single query")
+        void shouldGetProductDetailWithImages() {
+            Product product = createProduct(1L, "product", "description", EProductType.BOLSA);
+            ProductImage mainImage = ProductImage.builder().id(1L).imageUrl("url-1").isMainImage(true).product(product).build();
+            ProductImage otherImage = ProductImage.builder().id(2L).imageUrl("url-2").isMainImage(false).product(product).build();
+
+            when(productRepository.findProductWithImagesById(product.getId())).thenReturn(List.of(
+                    new ProductWithImageDTO(product, mainImage),
+                    new ProductWithImageDTO(product, otherImage)
+            ));
+
+            ResponseProductDetailDTO productDetail = productService.getProductDetailById(product.getId());
+
+            assertEquals(product.getName(), productDetail.name());
+            assertEquals(List.of("url-1", "url-2"), productDetail.images().stream().map(image -> image.imageUrl()).toList());
+
+            verify(productRepository, times(1)).findProductWithImagesById(product.getId());
+            verifyNoMoreInteractions(productRepository);
+        }
+
+        @Test
+        @DisplayName("Should get product detail with no images when product has none")
+        void shouldGetProductDetailWithoutImages() {
+            Product product = createProduct(1L, "product", "description", EProductType.BOLSA);
+
+            when(productRepository.findProductWithImagesById(product.getId()))
+                    .thenReturn(List.of(new ProductWithImageDTO(product, null)));
+
+            ResponseProductDetailDTO productDetail = productService.getProductDetailById(product.getId());
+
+            assertTrue(productDetail.images().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should throw ProductNotFoundException when product does not exists")
+        void shouldThrowExceptionWhenProductDoesNotExists() {
+            when(productRepository.findProductWithImagesById(anyLong())).thenReturn(List.of());
+
+            assertThrows(ProductNotFoundException.class, () -> productService.getProductDetailById(1L));
+        }
     }
 
     @Nested
@@ -111,6 +568,9 @@ public class ProductServiceTest {
             assertProductDetails(product, createdProduct);
 
             verify(productRepository, times(1)).save(any(Product.class));
+            verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.created(ProductSummaryDTO.fromEntity(product)));
+            verify(catalogVersion, times(1)).increment(ECatalogAggregate.PRODUCTS);
+            verify(catalogReadModelService, times(1)).putProduct(createdProduct);
         }
     }
 
@@ -133,6 +593,9 @@ public class ProductServiceTest {
 
             verify(productRepository, times(1)).findById(product.getId());
             verify(productRepository, times(1)).save(any(Product.class));
+            verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.updated(
+                    new ProductSummaryDTO(1L, "product", "description", EProductType.BOLSA),
+                    new ProductSummaryDTO(1L, "product updated", "description updated", EProductType.BOLSA)));
         }
 
         @Test
@@ -156,13 +619,15 @@ public class ProductServiceTest {
         @DisplayName("Should delete product with success")
         void shouldDeleteProductWithSuccess() {
             Long productId = 1L;
+            Product product = createProduct(productId, "product", "description", EProductType.BOLSA);
 
-            when(productRepository.existsById(productId)).thenReturn(true);
+            when(productRepository.findById(productId)).thenReturn(Optional.of(product));
 
             assertDoesNotThrow(() -> productService.deleteProductById(productId));
 
-            verify(productRepository, times(1)).existsById(productId);
+            verify(productRepository, times(1)).findById(productId);
             verify(productRepository, times(1)).deleteById(productId);
+            verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.deleted(ProductSummaryDTO.fromEntity(product)));
         }
 
         @Test
@@ -170,12 +635,13 @@ public class ProductServiceTest {
         void shouldThrowExceptionWhenProductDoesNotExists() {
             Long productId = 1L;
 
-            when(productRepository.existsById(productId)).thenReturn(false);
+            when(productRepository.findById(productId)).thenReturn(Optional.empty());
 
             assertThrows(ProductNotFoundException.class, () -> productService.deleteProductById(productId));
 
-            verify(productRepository, times(1)).existsById(productId);
+            verify(productRepository, times(1)).findById(productId);
             verify(productRepository, never()).deleteById(productId);
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
@@ -215,6 +681,10 @@ public class ProductServiceTest {
                 .build();
     }
 
+    private ResponseProductImageDTO createProductImage(Long id, String imageUrl, boolean isMainImage) {
+        return new ResponseProductImageDTO(id, imageUrl, isMainImage, null, null, null, null, null);
+    }
+
     private void assertProductDetails(Product expected, ResponseProductDTO actual) {
         assertAll(
                 () -> assertEquals(expected.getName(), actual.name()),
@@ -0,0 +1,113 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.dto.product.ProductSuggestionDTO;
+import com.giarts.ateliegiarts.dto.product.ProductSummaryDTO;
+import com.giarts.ateliegiarts.enums.EProductType;
+import com.giarts.ateliegiarts.event.ProductChangedEvent;
+import com.giarts.ateliegiarts.model.Product;
+import com.giarts.ateliegiarts.repository.ProductRepository;
+import com.giarts.ateliegiarts.service.ProductSuggestionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSuggestionServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSuggestionService productSuggestionService;
+
+    @BeforeEach
+    void setup() {
+        productSuggestionService = new ProductSuggestionService(productRepository, 5);
+
+        when(productRepository.findAll()).thenReturn(List.of(
+                createProduct(1L, "Bolsa de crochê"),
+                createProduct(2L, "Bolsa"),
+                createProduct(3L, "Tapete de crochê redondo"),
+                createProduct(4L, "Caminho de mesa")
+        ));
+        productSuggestionService.buildSuggestions();
+    }
+
+    @Nested
+    class suggestProducts {
+        @Test
+        @DisplayName("Should suggest products whose name starts with the prefix, shortest names first")
+        void shouldSuggestProductsWhoseNameStartsWithPrefix() {
+            List<ProductSuggestionDTO> suggestions = productSuggestionService.suggestProducts("bol", 10);
+
+            assertEquals(List.of(2L, 1L), suggestions.stream().map(ProductSuggestionDTO::id).toList());
+        }
+
+        @Test
+        @DisplayName("Should suggest products with a word starting with the prefix ignoring accents")
+        void shouldSuggestProductsWithWordStartingWithPrefix() {
+            List<ProductSuggestionDTO> suggestions = productSuggestionService.suggestProducts("CROCHÊ", 10);
+
+            assertEquals(List.of(1L, 3L), suggestions.stream().map(ProductSuggestionDTO::id).toList());
+        }
+
+        @Test
+        @DisplayName("Should tolerate one typo in the prefix")
+        void shouldTolerateOneTypoInPrefix() {
+            assertEquals(List.of(3L), productSuggestionService.suggestProducts("tapte", 10).stream().map(ProductSuggestionDTO::id).toList());
+            assertEquals(List.of(4L), productSuggestionService.suggestProducts("caminjo", 10).stream().map(ProductSuggestionDTO::id).toList());
+        }
+
+        @Test
+        @DisplayName("Should not apply fuzzy matching to short prefixes")
+        void shouldNotApplyFuzzyMatchingToShortPrefixes() {
+            assertTrue(productSuggestionService.suggestProducts("xo", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should limit the number of suggestions")
+        void shouldLimitTheNumberOfSuggestions() {
+            assertEquals(1, productSuggestionService.suggestProducts("b", 1).size());
+        }
+    }
+
+    @Nested
+    class onProductChanged {
+        @Test
+        @DisplayName("Should replace the suggestion of renamed products")
+        void shouldReplaceSuggestionOfRenamedProducts() {
+            productSuggestionService.onProductChanged(ProductChangedEvent.updated(
+                    new ProductSummaryDTO(2L, "Bolsa", "description", EProductType.BOLSA),
+                    new ProductSummaryDTO(2L, "Mochila", "description", EProductType.BOLSA)));
+
+            assertEquals(List.of(1L), productSuggestionService.suggestProducts("bolsa", 10).stream().map(ProductSuggestionDTO::id).toList());
+            assertEquals("Mochila", productSuggestionService.suggestProducts("moc", 10).get(0).name());
+        }
+
+        @Test
+        @DisplayName("Should remove suggestions of deleted products")
+        void shouldRemoveSuggestionsOfDeletedProducts() {
+            productSuggestionService.onProductChanged(ProductChangedEvent.deleted(
+                    new ProductSummaryDTO(3L, "Tapete de crochê redondo", "description", EProductType.TAPETE)));
+
+            assertTrue(productSuggestionService.suggestProducts("tap", 10).isEmpty());
+            assertTrue(productSuggestionService.suggestProducts("redondo", 10).isEmpty());
+        }
+    }
+
+    private Product createProduct(Long id, String name) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description("description")
+                .productType(EProductType.BOLSA)
+                .build();
+    }
+}
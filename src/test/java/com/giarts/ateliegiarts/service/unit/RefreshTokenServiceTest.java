@@ -0,0 +1,152 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.exception.InvalidRefreshTokenException;
+import com.giarts.ateliegiarts.model.RefreshToken;
+import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.repository.RefreshTokenRepository;
+import com.giarts.ateliegiarts.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @Captor
+    private ArgumentCaptor<RefreshToken> refreshTokenArgumentCaptor;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenTtl", Duration.ofDays(14));
+    }
+
+    @Nested
+    class createRefreshToken {
+        @Test
+        @DisplayName("Should store only the hash of the created refresh token")
+        void shouldStoreOnlyTheHashOfTheCreatedRefreshToken() {
+            User user = createUser(1L, 0);
+
+            String rawToken = refreshTokenService.createRefreshToken(user);
+
+            verify(refreshTokenRepository, times(1)).save(refreshTokenArgumentCaptor.capture());
+            RefreshToken storedToken = refreshTokenArgumentCaptor.getValue();
+
+            assertNotNull(rawToken);
+            assertAll(
+                    () -> assertNotEquals(rawToken, storedToken.getTokenHash()),
+                    () -> assertEquals(64, storedToken.getTokenHash().length()),
+                    () -> assertEquals(user, storedToken.getUser()),
+                    () -> assertFalse(storedToken.getRevoked()),
+                    () -> assertTrue(storedToken.getExpiresAt().isAfter(LocalDateTime.now().plusDays(13)))
+            );
+        }
+    }
+
+    @Nested
+    class consumeRefreshToken {
+        @Test
+        @DisplayName("Should consume refresh token with success when it is active")
+        void shouldConsumeRefreshTokenWithSuccessWhenItIsActive() {
+            RefreshToken refreshToken = createStoredRefreshToken(false, LocalDateTime.now().plusDays(1), 0);
+
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(refreshToken));
+            when(refreshTokenRepository.revokeIfActive(refreshToken.getId())).thenReturn(1);
+
+            RefreshToken consumedToken = refreshTokenService.consumeRefreshToken("raw-token");
+
+            assertEquals(refreshToken, consumedToken);
+
+            verify(refreshTokenRepository, times(1)).revokeIfActive(refreshToken.getId());
+            verify(refreshTokenRepository, never()).revokeFamily(anyString());
+        }
+
+        @Test
+        @DisplayName("Should revoke the whole family when a rotated refresh token is reused")
+        void shouldRevokeFamilyWhenRefreshTokenIsReused() {
+            RefreshToken refreshToken = createStoredRefreshToken(true, LocalDateTime.now().plusDays(1), 0);
+
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(refreshToken));
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consumeRefreshToken("raw-token"));
+
+            verify(refreshTokenRepository, never()).revokeIfActive(anyLong());
+            verify(refreshTokenRepository, times(1)).revokeFamily(refreshToken.getFamilyId());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRefreshTokenException when refresh token is expired")
+        void shouldThrowExceptionWhenRefreshTokenIsExpired() {
+            RefreshToken refreshToken = createStoredRefreshToken(false, LocalDateTime.now().minusMinutes(1), 0);
+
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(refreshToken));
+            when(refreshTokenRepository.revokeIfActive(refreshToken.getId())).thenReturn(1);
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consumeRefreshToken("raw-token"));
+        }
+
+        @Test
+        @DisplayName("Should revoke the family when the user changed after the refresh token was issued")
+        void shouldRevokeFamilyWhenUserChangedAfterIssue() {
+            RefreshToken refreshToken = createStoredRefreshToken(false, LocalDateTime.now().plusDays(1), 1);
+
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(refreshToken));
+            when(refreshTokenRepository.revokeIfActive(refreshToken.getId())).thenReturn(1);
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consumeRefreshToken("raw-token"));
+
+            verify(refreshTokenRepository, times(1)).revokeFamily(refreshToken.getFamilyId());
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRefreshTokenException when refresh token does not exists")
+        void shouldThrowExceptionWhenRefreshTokenDoesNotExists() {
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+            assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consumeRefreshToken("raw-token"));
+
+            verify(refreshTokenRepository, never()).revokeIfActive(anyLong());
+        }
+    }
+
+    private User createUser(Long id, int tokenVersion) {
+        return User.builder()
+                .id(id)
+                .name("User")
+                .email("email@email.com")
+                .tokenVersion(tokenVersion)
+                .build();
+    }
+
+    private RefreshToken createStoredRefreshToken(boolean revoked, LocalDateTime expiresAt, int userTokenVersion) {
+        return RefreshToken.builder()
+                .id(1L)
+                .tokenHash("hash")
+                .familyId("family")
+                .user(createUser(1L, userTokenVersion))
+                .tokenVersion(0)
+                .revoked(revoked)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
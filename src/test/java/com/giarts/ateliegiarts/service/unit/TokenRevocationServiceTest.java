@@ -0,0 +1,105 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.security.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenRevocationServiceTest {
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setup() {
+        tokenRevocationService = new TokenRevocationService(1_000, 0.01, Duration.ofSeconds(1));
+    }
+
+    @Nested
+    class isTokenRevoked {
+        @Test
+        @DisplayName("Should report revoked token as revoked")
+        void shouldReportRevokedTokenAsRevoked() {
+            tokenRevocationService.revokeToken("revoked-token", Instant.now().plus(Duration.ofHours(1)));
+
+            assertTrue(tokenRevocationService.isTokenRevoked("revoked-token"));
+        }
+
+        @Test
+        @DisplayName("Should not report tokens that were never revoked")
+        void shouldNotReportTokensThatWereNeverRevoked() {
+            tokenRevocationService.revokeToken("revoked-token", Instant.now().plus(Duration.ofHours(1)));
+
+            for (int i = 0; i < 1_000; i++) {
+                assertFalse(tokenRevocationService.isTokenRevoked("active-token-" + i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should ignore revocation of token that is already expired")
+        void shouldIgnoreRevocationOfExpiredToken() {
+            tokenRevocationService.revokeToken("expired-token", Instant.now().minusSeconds(1));
+
+            assertFalse(tokenRevocationService.isTokenRevoked("expired-token"));
+        }
+    }
+
+    @Nested
+    class sweepExpiredRevocations {
+        @Test
+        @DisplayName("Should keep revocations that have not expired yet")
+        void shouldKeepRevocationsThatHaveNotExpired() {
+            tokenRevocationService.revokeToken("revoked-token", Instant.now().plus(Duration.ofHours(1)));
+
+            tokenRevocationService.sweepExpiredRevocations();
+
+            assertTrue(tokenRevocationService.isTokenRevoked("revoked-token"));
+        }
+
+        @Test
+        @DisplayName("Should drop revocations once their tokens expire")
+        void shouldDropRevocationsOnceTokensExpire() throws InterruptedException {
+            tokenRevocationService.revokeToken("short-lived-token", Instant.now().plusMillis(200));
+            tokenRevocationService.revokeToken("revoked-token", Instant.now().plus(Duration.ofHours(1)));
+
+            Thread.sleep(2_100);
+            tokenRevocationService.sweepExpiredRevocations();
+
+            assertFalse(tokenRevocationService.isTokenRevoked("short-lived-token"));
+            assertTrue(tokenRevocationService.isTokenRevoked("revoked-token"));
+        }
+
+        @Test
+        @DisplayName("Should keep revocations made while the sweep rebuilds the filter")
+        void shouldKeepRevocationsMadeWhileSweepRebuildsFilter() throws InterruptedException {
+            Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+            for (int i = 0; i < 200_000; i++) {
+                tokenRevocationService.revokeToken("revoked-token-" + i, expiresAt);
+            }
+            tokenRevocationService.revokeToken("short-lived-token", Instant.now().plusMillis(200));
+            Thread.sleep(2_100);
+
+            AtomicBoolean sweeping = new AtomicBoolean(true);
+            AtomicInteger concurrentRevocations = new AtomicInteger();
+            Thread writer = new Thread(() -> {
+                while (sweeping.get()) {
+                    tokenRevocationService.revokeToken("concurrent-token-" + concurrentRevocations.getAndIncrement(), expiresAt);
+                }
+            });
+            writer.start();
+            tokenRevocationService.sweepExpiredRevocations();
+            sweeping.set(false);
+            writer.join();
+
+            for (int i = 0; i < concurrentRevocations.get(); i++) {
+                assertTrue(tokenRevocationService.isTokenRevoked("concurrent-token-" + i));
+            }
+        }
+    }
+}
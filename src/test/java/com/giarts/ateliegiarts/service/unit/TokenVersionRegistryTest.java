@@ -0,0 +1,154 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.dto.user.UserTokenVersionDTO;
+import com.giarts.ateliegiarts.repository.UserRepository;
+import com.giarts.ateliegiarts.security.TokenVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenVersionRegistryTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setup() {
+        loadVersions(new UserTokenVersionDTO(1L, 2), new UserTokenVersionDTO(3L, 0));
+    }
+
+    @Nested
+    class isTokenVersionCurrent {
+        @Test
+        @DisplayName("Should accept tokens carrying the current version of a known user")
+        void shouldAcceptTokensCarryingCurrentVersion() {
+            assertTrue(tokenVersionRegistry.isTokenVersionCurrent(1L, 2));
+            assertTrue(tokenVersionRegistry.isTokenVersionCurrent(3L, 0));
+        }
+
+        @Test
+        @DisplayName("Should reject tokens carrying an older version of a known user")
+        void shouldRejectTokensCarryingOlderVersion() {
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(1L, 1));
+        }
+
+        @Test
+        @DisplayName("Should accept unknown users above the highest loaded ID as newly registered")
+        void shouldAcceptUnknownUsersAboveHighestId() {
+            assertTrue(tokenVersionRegistry.isTokenVersionCurrent(4L, 0));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown users at or below the highest loaded ID as deleted")
+        void shouldRejectUnknownUsersAtOrBelowHighestId() {
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(2L, 0));
+        }
+
+        @Test
+        @DisplayName("Should only reject revoked users before the versions are loaded")
+        void shouldOnlyRejectRevokedUsersBeforeVersionsAreLoaded() {
+            TokenVersionRegistry emptyRegistry = new TokenVersionRegistry(userRepository);
+
+            assertTrue(emptyRegistry.isTokenVersionCurrent(1L, 0));
+            emptyRegistry.revokeUser(1L);
+            assertFalse(emptyRegistry.isTokenVersionCurrent(1L, 0));
+        }
+    }
+
+    @Nested
+    class updateVersion {
+        @Test
+        @DisplayName("Should let a pending version override the loaded table until the next refresh")
+        void shouldLetPendingVersionOverrideLoadedTable() {
+            tokenVersionRegistry.updateVersion(1L, 3);
+
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(1L, 2));
+            assertTrue(tokenVersionRegistry.isTokenVersionCurrent(1L, 3));
+        }
+
+        @Test
+        @DisplayName("Should keep the highest pending version when updates arrive out of order")
+        void shouldKeepHighestPendingVersion() {
+            tokenVersionRegistry.updateVersion(1L, 4);
+            tokenVersionRegistry.updateVersion(1L, 3);
+
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(1L, 3));
+            assertTrue(tokenVersionRegistry.isTokenVersionCurrent(1L, 4));
+        }
+    }
+
+    @Nested
+    class revokeUser {
+        @Test
+        @DisplayName("Should reject every version of a revoked user, even above the highest loaded ID")
+        void shouldRejectEveryVersionOfRevokedUser() {
+            tokenVersionRegistry.revokeUser(1L);
+            tokenVersionRegistry.revokeUser(4L);
+
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(1L, 2));
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(4L, 0));
+        }
+    }
+
+    @Nested
+    class refreshVersions {
+        @Test
+        @DisplayName("Should drop a pending version once the refreshed table covers it")
+        void shouldDropPendingVersionOnceTableCoversIt() {
+            tokenVersionRegistry.updateVersion(1L, 3);
+
+            loadVersions(new UserTokenVersionDTO(1L, 2), new UserTokenVersionDTO(3L, 0));
+            assertEquals(Map.of(1L, 3), pendingVersions());
+
+            loadVersions(new UserTokenVersionDTO(1L, 3), new UserTokenVersionDTO(3L, 0));
+            assertTrue(pendingVersions().isEmpty());
+            assertTrue(tokenVersionRegistry.isTokenVersionCurrent(1L, 3));
+        }
+
+        @Test
+        @DisplayName("Should drop a revocation once the deleted user is gone from the table")
+        void shouldDropRevocationOnceUserIsGone() {
+            tokenVersionRegistry.revokeUser(1L);
+
+            loadVersions(new UserTokenVersionDTO(3L, 0));
+
+            assertTrue(pendingVersions().isEmpty());
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(1L, 2));
+        }
+
+        @Test
+        @DisplayName("Should keep a revocation above the highest loaded ID")
+        void shouldKeepRevocationAboveHighestId() {
+            tokenVersionRegistry.revokeUser(4L);
+
+            loadVersions(new UserTokenVersionDTO(1L, 2), new UserTokenVersionDTO(3L, 0));
+
+            assertFalse(tokenVersionRegistry.isTokenVersionCurrent(4L, 0));
+        }
+    }
+
+    private void loadVersions(UserTokenVersionDTO... tokenVersions) {
+        when(userRepository.findAllTokenVersions()).thenReturn(List.of(tokenVersions));
+        tokenVersionRegistry.refreshVersions();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> pendingVersions() {
+        return (Map<Long, Integer>) ReflectionTestUtils.getField(tokenVersionRegistry, "pendingVersions");
+    }
+}
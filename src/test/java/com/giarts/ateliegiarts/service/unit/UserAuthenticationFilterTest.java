@@ -0,0 +1,166 @@
+package com.giarts.ateliegiarts.service.unit;
+
+import com.giarts.ateliegiarts.dto.user.UserTokenVersionDTO;
+import com.giarts.ateliegiarts.enums.ESigningAlgorithm;
+import com.giarts.ateliegiarts.enums.EUserRole;
+import com.giarts.ateliegiarts.model.User;
+import com.giarts.ateliegiarts.model.UserRole;
+import com.giarts.ateliegiarts.repository.UserRepository;
+import com.giarts.ateliegiarts.security.JwtSigningKeyRing;
+import com.giarts.ateliegiarts.security.JwtTokenService;
+import com.giarts.ateliegiarts.security.PrincipalCache;
+import com.giarts.ateliegiarts.security.TokenRevocationService;
+import com.giarts.ateliegiarts.security.TokenVersionRegistry;
+import com.giarts.ateliegiarts.security.UserAuthenticationFilter;
+import com.giarts.ateliegiarts.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserAuthenticationFilterTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private JwtTokenService jwtTokenService;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private UserAuthenticationFilter userAuthenticationFilter;
+
+    @BeforeEach
+    void setup() {
+        jwtTokenService = new JwtTokenService(new JwtSigningKeyRing(ESigningAlgorithm.ES256, "secret-key", Duration.ofHours(4)),
+                Duration.ofHours(4), 1_000, new SimpleMeterRegistry());
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository);
+        userAuthenticationFilter = new UserAuthenticationFilter(jwtTokenService, userRepository, principalCache, tokenVersionRegistry,
+                new TokenRevocationService(1_000, 0.01, Duration.ofMinutes(5)));
+        ReflectionTestUtils.setField(userAuthenticationFilter, "statelessClaimsEnabled", true);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    class doFilterInternal {
+        @Test
+        @DisplayName("Should authenticate from the token claims without loading the user in stateless mode")
+        void shouldAuthenticateFromTokenClaims() throws Exception {
+            loadTokenVersion(2);
+
+            filter(createRequest("GET", "/users/1", jwtTokenService.generateToken(createUserDetails(2))));
+
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            assertNotNull(authentication);
+            assertEquals("email@email.com", authentication.getName());
+            assertEquals(List.of("ROLE_CUSTOMER"), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+
+            verify(userRepository, never()).findByEmail(any());
+            verifyNoInteractions(principalCache);
+        }
+
+        @Test
+        @DisplayName("Should reject tokens carrying an older token version in stateless mode")
+        void shouldRejectTokensCarryingOlderTokenVersion() throws Exception {
+            loadTokenVersion(2);
+
+            filter(createRequest("GET", "/users/1", jwtTokenService.generateToken(createUserDetails(1))));
+
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+            verify(userRepository, never()).findByEmail(any());
+            verifyNoInteractions(principalCache);
+        }
+    }
+
+    @Nested
+    class shouldNotFilter {
+        @ParameterizedTest
+        @CsvSource({
+                "GET, /products/1",
+                "GET, /events/1",
+                "GET, /swagger-ui/index.html",
+                "GET, /v3/api-docs",
+                "POST, /v3/api-docs"
+        })
+        @DisplayName("Should skip authentication on public catalog reads and documentation")
+        void shouldSkipPublicReads(String method, String path) throws Exception {
+            filter(createRequest(method, path, jwtTokenService.generateToken(createUserDetails(1))));
+
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+            verifyNoInteractions(userRepository, principalCache);
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "POST, /products/1",
+                "PUT, /products/1",
+                "DELETE, /products/1",
+                "POST, /events/1",
+                "PUT, /events/1",
+                "DELETE, /events/1",
+                "GET, /users/1"
+        })
+        @DisplayName("Should authenticate writes to the catalog and reads outside it")
+        void shouldAuthenticateNonPublicRequests(String method, String path) throws Exception {
+            loadTokenVersion(1);
+
+            filter(createRequest(method, path, jwtTokenService.generateToken(createUserDetails(1))));
+
+            assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    private void loadTokenVersion(int tokenVersion) {
+        when(userRepository.findAllTokenVersions()).thenReturn(List.of(new UserTokenVersionDTO(1L, tokenVersion)));
+        tokenVersionRegistry.refreshVersions();
+    }
+
+    private void filter(MockHttpServletRequest request) throws Exception {
+        MockFilterChain filterChain = new MockFilterChain();
+        userAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        assertSame(request, filterChain.getRequest());
+    }
+
+    private UserDetailsImpl createUserDetails(int tokenVersion) {
+        User user = User.builder()
+                .id(1L)
+                .name("User")
+                .email("email@email.com")
+                .tokenVersion(tokenVersion)
+                .userRoles(Set.of(new UserRole(1L, EUserRole.ROLE_CUSTOMER)))
+                .build();
+        return new UserDetailsImpl(user);
+    }
+
+    private MockHttpServletRequest createRequest(String method, String path, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
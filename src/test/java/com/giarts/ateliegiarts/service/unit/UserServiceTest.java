@@ -10,7 +10,9 @@ import com.giarts.ateliegiarts.model.User;
 import com.giarts.ateliegiarts.model.UserRole;
 import com.giarts.ateliegiarts.repository.UserRepository;
 import com.giarts.ateliegiarts.repository.UserRoleRepository;
+import com.giarts.ateliegiarts.security.PrincipalCache;
 import com.giarts.ateliegiarts.security.SecurityService;
+import com.giarts.ateliegiarts.security.TokenVersionRegistry;
 import com.giarts.ateliegiarts.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -45,6 +47,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @InjectMocks
     private UserService userService;
 
@@ -161,11 +169,14 @@ public class UserServiceTest {
 
             assertNotNull(updatedUser);
             assertUserDetails(updateUserDTO, ResponseUserDTO.fromEntity(userArgumentCaptor.getValue()));
+            assertEquals(1, userArgumentCaptor.getValue().getTokenVersion());
 
             verify(securityService, times(1)).canAccessUser(anyLong());
             verify(userRepository, times(1)).findById(user.getId());
             verify(passwordEncoder, times(1)).encode(updateUserDTO.password());
             verify(userRepository, times(1)).save(any(User.class));
+            verify(principalCache, times(1)).invalidateUser(user.getId());
+            verify(tokenVersionRegistry, times(1)).updateVersion(user.getId(), 1);
         }
 
         @Test
@@ -199,6 +210,8 @@ public class UserServiceTest {
             verify(securityService, times(1)).canAccessUser(anyLong());
             verify(userRepository, times(1)).existsById(userId);
             verify(userRepository, times(1)).deleteById(userId);
+            verify(principalCache, times(1)).invalidateUser(userId);
+            verify(tokenVersionRegistry, times(1)).revokeUser(userId);
         }
 
         @Test
@@ -211,6 +224,7 @@ public class UserServiceTest {
 
             verify(userRepository, times(1)).existsById(anyLong());
             verify(userRepository, never()).deleteById(anyLong());
+            verify(principalCache, never()).invalidateUser(anyLong());
         }
     }
 